@@ -0,0 +1,99 @@
+package com.job.portal.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heap budget of the application caches at {@code /actuator/cachebudget}: what each cache may
+ * hold under its configured policy, what it holds now, and how the total compares with the
+ * share of the max heap ({@code -Xmx}, or the container limit with container-aware defaults)
+ * set aside for caching. Logged once at startup as well.
+ */
+@Component
+@Endpoint(id = "cachebudget")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheBudgetEndpoint {
+
+    private final CacheManager cacheManager;
+    private final CachePolicyProperties policies;
+
+    @ReadOperation
+    public BudgetReport report() {
+        List<CacheBudget> caches = new ArrayList<>();
+        long configured = 0;
+        long estimated = 0;
+        for (String name : cacheManager.getCacheNames()) {
+            CachePolicyProperties.Spec spec = policies.specFor(name);
+            Long maxBytes = spec.weighted() ? spec.maxWeight().toBytes() : null;
+            Long currentBytes = null;
+            long entries = 0;
+            if (cacheManager.getCache(name) instanceof CoalescingCaffeineCache cache) {
+                currentBytes = cache.estimatedBytes();
+                entries = cache.getNativeCache().estimatedSize();
+            }
+            if (maxBytes != null) {
+                configured += maxBytes;
+            }
+            if (currentBytes != null) {
+                estimated += currentBytes;
+            }
+            caches.add(new CacheBudget(name, spec.ttl(), spec.refresh(), maxBytes, spec.maxEntries(),
+                    entries, currentBytes));
+        }
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        long budget = (long) (maxHeap * policies.heapBudgetRatio());
+        return new BudgetReport(maxHeap, policies.heapBudgetRatio(), budget, configured, estimated,
+                configured <= budget, caches);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logBudget() {
+        BudgetReport report = report();
+        List<String> countBound = report.caches().stream()
+                .filter(cache -> cache.maxBytes() == null)
+                .map(CacheBudget::name)
+                .toList();
+        if (report.withinBudget()) {
+            log.info("Caches may use up to {} MB of the {} MB cache budget ({} of {} MB max heap); "
+                            + "bounded by entry count instead: {}",
+                    megabytes(report.configuredBytes()), megabytes(report.budgetBytes()),
+                    report.heapBudgetRatio(), megabytes(report.maxHeapBytes()), countBound);
+        } else {
+            log.warn("Caches may use up to {} MB, over the {} MB cache budget ({} of {} MB max heap); "
+                            + "lower app.cache.specs.*.max-weight or raise the heap",
+                    megabytes(report.configuredBytes()), megabytes(report.budgetBytes()),
+                    report.heapBudgetRatio(), megabytes(report.maxHeapBytes()));
+        }
+    }
+
+    private static long megabytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    /**
+     * @param maxBytes     weight bound, or null for an entry-count bound
+     * @param currentBytes estimated size of the current entries, or null for an entry-count bound
+     */
+    public record CacheBudget(String name, Duration ttl, Duration refresh, Long maxBytes, Long maxEntries,
+                              long entries, Long currentBytes) {
+    }
+
+    /**
+     * @param withinBudget whether the weight bounds of the caches together fit the budget; caches
+     *                     bounded by entry count are not included
+     */
+    public record BudgetReport(long maxHeapBytes, double heapBudgetRatio, long budgetBytes, long configuredBytes,
+                               long estimatedBytes, boolean withinBudget, List<CacheBudget> caches) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.job.portal.cache;
+
+/**
+ * A cache change made on one node that the other nodes apply to their local caches.
+ *
+ * @param origin     id of the node that made the change, so it can ignore its own messages
+ * @param cacheName  the cache, or the generation name for {@link Kind#GENERATION}
+ * @param key        the evicted key, for {@link Kind#EVICT}
+ * @param generation the new generation, for {@link Kind#GENERATION}
+ */
+public record CacheInvalidation(String origin, Kind kind, String cacheName, Object key, long generation) {
+
+    public enum Kind {
+        EVICT, CLEAR, GENERATION
+    }
+
+    public static CacheInvalidation evict(String origin, String cacheName, Object key) {
+        return new CacheInvalidation(origin, Kind.EVICT, cacheName, key, 0);
+    }
+
+    public static CacheInvalidation clear(String origin, String cacheName) {
+        return new CacheInvalidation(origin, Kind.CLEAR, cacheName, null, 0);
+    }
+
+    public static CacheInvalidation generation(String origin, String name, long generation) {
+        return new CacheInvalidation(origin, Kind.GENERATION, name, null, generation);
+    }
+}
@@ -0,0 +1,18 @@
+package com.job.portal.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcast channel for {@link CacheInvalidation}s between nodes, e.g. Redis pub/sub in a
+ * multi-node deployment. Delivery is best effort; the cache TTLs bound how long a node that
+ * missed a message can serve a stale entry.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Delivers every invalidation published by a node other than {@code nodeId}.
+     */
+    void subscribe(String nodeId, Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,78 @@
+package com.job.portal.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-cache Caffeine policies, bound from {@code app.cache.*}. Each cache takes its own spec
+ * from {@code app.cache.specs.<name>}, with unset values falling back to {@code app.cache.defaults}.
+ *
+ * @param defaults        policy applied to every cache, and to unset values of a cache spec
+ * @param specs           per-cache overrides keyed by cache name
+ * @param heapBudgetRatio share of the max heap the caches together may be configured to use
+ * @param twoTier         shared second tier and cross-node invalidation
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CachePolicyProperties(Spec defaults, Map<String, Spec> specs, Double heapBudgetRatio,
+                                    TwoTier twoTier) {
+
+    private static final Spec BUILT_IN = new Spec(Duration.ofMinutes(5), null, DataSize.ofMegabytes(8), null,
+            Duration.ofSeconds(30));
+
+    public CachePolicyProperties {
+        defaults = defaults == null ? BUILT_IN : defaults.orElse(BUILT_IN);
+        specs = specs == null ? Map.of() : Map.copyOf(specs);
+        heapBudgetRatio = heapBudgetRatio == null ? 0.25 : heapBudgetRatio;
+        twoTier = twoTier == null ? new TwoTier(false, null) : twoTier;
+    }
+
+    public Spec specFor(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        return spec == null ? defaults : spec.orElse(defaults);
+    }
+
+    /**
+     * One cache's policy. A cache is bounded by {@code maxWeight} (estimated bytes, see
+     * {@link ObjectSizeEstimator}) unless {@code maxEntries} is set, which takes precedence.
+     *
+     * @param ttl        expire entries this long after they were written
+     * @param refresh    reload entries in the background when read this long after they were
+     *                   written, using the loader registered with {@link RefreshLoaders}
+     * @param maxWeight  estimated size the cache may hold before evicting
+     * @param maxEntries entry-count bound for caches whose values are uniformly small
+     * @param negativeTtl remember a not-found result of a load this long; zero turns it off
+     */
+    public record Spec(Duration ttl, Duration refresh, DataSize maxWeight, Long maxEntries, Duration negativeTtl) {
+
+        Spec orElse(Spec fallback) {
+            boolean countBound = maxEntries != null;
+            return new Spec(
+                    ttl != null ? ttl : fallback.ttl(),
+                    refresh != null ? refresh : fallback.refresh(),
+                    countBound ? null : (maxWeight != null ? maxWeight : fallback.maxWeight()),
+                    countBound || maxWeight != null ? maxEntries : fallback.maxEntries(),
+                    negativeTtl != null ? negativeTtl : fallback.negativeTtl());
+        }
+
+        public boolean weighted() {
+            return maxEntries == null && maxWeight != null;
+        }
+    }
+
+    /**
+     * @param enabled whether caches read through and write to the {@link SharedCacheStore}; when
+     *                off, each node only has its local caches. Caches in
+     *                {@code CacheConfig.NODE_LOCAL_CACHES} stay local either way
+     * @param nodeId  identifies this node on the {@link CacheInvalidationBus}; random by default
+     */
+    public record TwoTier(boolean enabled, String nodeId) {
+
+        public TwoTier {
+            nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        }
+    }
+}
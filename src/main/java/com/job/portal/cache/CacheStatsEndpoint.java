@@ -0,0 +1,93 @@
+package com.job.portal.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-cache statistics at {@code /actuator/cachestats} and {@code /actuator/cachestats/{name}}:
+ * hit and miss rates, loads and their average latency, evictions, estimated memory and the
+ * most frequently used keys, for tuning TTLs and sizes. The same counters are exported as
+ * {@code cache.*} meters.
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private static final int HOTTEST_KEYS = 10;
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final CacheManager cacheManager;
+    private final RefreshLoaders refreshLoaders;
+
+    @ReadOperation
+    public Map<String, CacheStats> caches() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheStats cacheStats = cache(name);
+            if (cacheStats != null) {
+                stats.put(name, cacheStats);
+            }
+        }
+        return stats;
+    }
+
+    @ReadOperation
+    @Nullable
+    public CacheStats cache(@Selector String name) {
+        if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache.getNativeCache();
+        com.github.benmanes.caffeine.cache.stats.CacheStats stats = nativeCache.stats();
+        long loads = 0;
+        long coalesced = 0;
+        long failures = 0;
+        double averageLoadMillis = 0;
+        Long estimatedBytes = null;
+        if (cache instanceof CoalescingCaffeineCache coalescing) {
+            loads = coalescing.loadCount();
+            coalesced = coalescing.coalescedCount();
+            failures = coalescing.loadFailureCount();
+            averageLoadMillis = loads == 0 ? 0 : coalescing.totalLoadTime() / 1e6 / loads;
+            estimatedBytes = coalescing.estimatedBytes();
+        }
+        List<String> hottest = nativeCache.policy().eviction()
+                .map(eviction -> eviction.hottest(HOTTEST_KEYS).keySet().stream()
+                        .map(CacheStatsEndpoint::describe)
+                        .toList())
+                .orElse(List.of());
+        return new CacheStats(stats.requestCount(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.missRate(), loads, coalesced, failures, averageLoadMillis, refreshLoaders.refreshCount(name),
+                stats.evictionCount(), nativeCache.estimatedSize(), estimatedBytes, hottest);
+    }
+
+    private static String describe(Object key) {
+        String text = String.valueOf(key);
+        return text.length() <= MAX_KEY_LENGTH ? text : text.substring(0, MAX_KEY_LENGTH) + "...";
+    }
+
+    /**
+     * @param loads              misses that ran the cached method
+     * @param coalescedLoads     misses that shared a load already in flight
+     * @param averageLoadMillis  mean duration of {@code loads}
+     * @param refreshes          background refresh-ahead reloads
+     * @param estimatedBytes     estimated memory held, for weight-bounded caches
+     * @param hottestKeys        most frequently used keys, as seen by the eviction policy
+     */
+    public record CacheStats(long requests, long hits, long misses, double hitRate, double missRate,
+                             long loads, long coalescedLoads, long loadFailures, double averageLoadMillis,
+                             long refreshes, long evictions, long entries, Long estimatedBytes,
+                             List<String> hottestKeys) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.job.portal.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.job.portal.exception.NotFoundException;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine cache that runs at most one load per key at a time. Concurrent misses for a key that
+ * is already loading wait for that load and share its value or exception, instead of each
+ * running the same query. Applies to {@code @Cacheable(sync = true)} methods.
+ * <p>
+ * The load runs outside any Caffeine lock, so a slow query only holds up callers of its own key.
+ * An eviction while a load is in flight detaches it: waiters still get its result, but it is not
+ * stored, so a load that read the data before a write cannot repopulate the evicted entry.
+ * <p>
+ * With a negative TTL, a load that throws a {@link NotFoundException} is remembered for that long
+ * and rethrown to later callers without running the load again, so repeated requests for a
+ * missing id do not reach the database. Evicting or putting the key forgets the miss.
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    // Bounds the memory a crawler walking random ids can take
+    private static final int MAX_MISSES = 10_000;
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    // Null when negative caching is off
+    private final com.github.benmanes.caffeine.cache.Cache<Object, NotFoundException> misses;
+
+    public CoalescingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                   boolean allowNullValues) {
+        this(name, cache, allowNullValues, null);
+    }
+
+    public CoalescingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                   boolean allowNullValues, Duration negativeTtl) {
+        super(name, cache, allowNullValues);
+        this.misses = negativeTtl == null || negativeTtl.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(negativeTtl)
+                .maximumSize(MAX_MISSES)
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = present(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        NotFoundException missing = misses == null ? null : misses.getIfPresent(key);
+        if (missing != null) {
+            negativeHits.increment();
+            // Stackless, so the same instance can be thrown again
+            throw missing;
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return (T) await(key, valueLoader, leader);
+        }
+        try {
+            // Another load may have stored the value between the lookup and joining the flight
+            cached = present(key);
+            T value;
+            if (cached != null) {
+                value = (T) cached.get();
+            } else {
+                value = load(valueLoader);
+                inFlight.computeIfPresent(key, (k, current) -> {
+                    if (current == flight) {
+                        put(k, value);
+                    }
+                    return current;
+                });
+            }
+            flight.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            NotFoundException notFound = notFound(ex);
+            if (notFound != null && misses != null) {
+                inFlight.computeIfPresent(key, (k, current) -> {
+                    if (current == flight) {
+                        misses.put(k, notFound);
+                    }
+                    return current;
+                });
+            }
+            flight.completeExceptionally(ex);
+            if (ex instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <T> T load(Callable<T> valueLoader) throws Exception {
+        loads.increment();
+        long start = System.nanoTime();
+        try {
+            return valueLoader.call();
+        } catch (Exception | Error ex) {
+            loadFailures.increment();
+            throw ex;
+        } finally {
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // @Cacheable wraps what the method threw before it reaches the cache
+    private static NotFoundException notFound(Throwable ex) {
+        if (ex instanceof NotFoundException notFound) {
+            return notFound;
+        }
+        return ex.getCause() instanceof NotFoundException notFound ? notFound : null;
+    }
+
+    private ValueWrapper present(Object key) {
+        return toValueWrapper(storedValue(key));
+    }
+
+    /**
+     * The stored value for a key, or null. Unlike {@code lookup}, never runs the loader of a
+     * refreshing cache, so every miss is coalesced here.
+     */
+    protected Object storedValue(Object key) {
+        return getNativeCache().getIfPresent(key);
+    }
+
+    private static Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        forgetMiss(key);
+        super.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        forgetMiss(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        inFlight.remove(key);
+        forgetMiss(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        inFlight.remove(key);
+        forgetMiss(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        forgetMisses();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        inFlight.clear();
+        forgetMisses();
+        return super.invalidate();
+    }
+
+    private void forgetMiss(Object key) {
+        if (misses != null) {
+            misses.invalidate(key);
+        }
+    }
+
+    private void forgetMisses() {
+        if (misses != null) {
+            misses.invalidateAll();
+        }
+    }
+
+    /**
+     * Loads that ran the cached method.
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Misses that waited for a load already in flight instead of running their own.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Loads that threw; their callers got the exception and nothing was cached.
+     */
+    public long loadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    /**
+     * Lookups answered with a remembered not-found instead of running the load.
+     */
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * Current weighted size of a weight-bounded cache, with pending writes applied; null for a
+     * cache bounded by entry count.
+     */
+    public Long estimatedBytes() {
+        getNativeCache().cleanUp();
+        return getNativeCache().policy().eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(null);
+    }
+
+    /**
+     * Time spent in loads, successful or not, in nanoseconds.
+     */
+    public long totalLoadTime() {
+        return loadNanos.sum();
+    }
+}
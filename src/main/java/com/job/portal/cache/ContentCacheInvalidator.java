@@ -0,0 +1,50 @@
+package com.job.portal.cache;
+
+import com.job.portal.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the id-keyed content caches (quizzes, interview questions, learning resources)
+ * when rows are created, updated or deleted, once the writing transaction has committed.
+ * Evicting before the commit would let a concurrent read cache the old row again.
+ * <p>
+ * A new row still needs an eviction because {@link CoalescingCaffeineCache} remembers
+ * not-found lookups: a read of the id just before the insert would otherwise keep answering
+ * 404. A batch clears the caches instead of evicting each new id; batch imports are rare next
+ * to reads.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void created(Object id, String... cacheNames) {
+        changed(id, cacheNames);
+    }
+
+    public void changed(Object id, String... cacheNames) {
+        AfterCommit.run(() -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    cache.evict(id);
+                }
+            }
+        });
+    }
+
+    public void batchCreated(String... cacheNames) {
+        AfterCommit.run(() -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.job.portal.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link SharedCacheStore} for single-node runs and tests. Several two-tier cache
+ * managers sharing one instance behave like nodes sharing a networked store.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Map<Object, Entry>> caches = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        Map<Object, Entry> cache = caches.get(cacheName);
+        Entry entry = cache == null ? null : cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, Entry> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+
+    @Override
+    public long generation(String name) {
+        AtomicLong generation = generations.get(name);
+        return generation == null ? 0 : generation.get();
+    }
+
+    @Override
+    public long incrementGeneration(String name) {
+        return generations.computeIfAbsent(name, n -> new AtomicLong()).incrementAndGet();
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.job.portal.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Synchronous in-process {@link CacheInvalidationBus} for single-node runs and tests, where
+ * each subscribing node id stands for a separate replica.
+ */
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.nodeId().equals(invalidation.origin())) {
+                subscription.listener().accept(invalidation);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<CacheInvalidation> listener) {
+        subscriptions.add(new Subscription(nodeId, listener));
+    }
+
+    private record Subscription(String nodeId, Consumer<CacheInvalidation> listener) {
+    }
+}
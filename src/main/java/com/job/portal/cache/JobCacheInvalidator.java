@@ -0,0 +1,237 @@
+package com.job.portal.cache;
+
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.entity.Job;
+import com.job.portal.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Invalidates only the cached job data a write can affect.
+ * <p>
+ * Entries keyed by a job's own values (id, title, company, experience) are evicted one by one.
+ * Search results and paged listings can be affected by any write, so instead of clearing those
+ * caches their keys include a generation number that each write bumps: old entries are simply
+ * never read again and age out. This also keeps a load that started before the write from
+ * publishing stale results under a key that is still in use. Search entries hold only job ids,
+ * so an update that leaves the searchable fields alone keeps them and evicts just the job's
+ * {@code job_summaries} entry.
+ * <p>
+ * Invalidation runs after the surrounding transaction commits, so a concurrent miss cannot
+ * reload the previous state into the cache.
+ * <p>
+ * Generations are advanced in the {@link SharedCacheStore} and broadcast to the other nodes, so
+ * all nodes key their entries, and the shared tier, by the same generation.
+ */
+@Component
+@Slf4j
+public class JobCacheInvalidator {
+
+    static final String SEARCH_GENERATION = "jobs_search";
+    static final String LISTING_GENERATION = "jobs_listing";
+
+    private final CacheManager cacheManager;
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+
+    private final AtomicLong searchGeneration;
+    private final AtomicLong listingGeneration;
+
+    public JobCacheInvalidator(CacheManager cacheManager, SharedCacheStore sharedCacheStore,
+                               CacheInvalidationBus invalidationBus, CachePolicyProperties policies) {
+        this.cacheManager = cacheManager;
+        this.sharedCacheStore = sharedCacheStore;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = policies.twoTier().nodeId();
+        this.searchGeneration = new AtomicLong(sharedCacheStore.generation(SEARCH_GENERATION));
+        this.listingGeneration = new AtomicLong(sharedCacheStore.generation(LISTING_GENERATION));
+        invalidationBus.subscribe(nodeId, this::onRemoteInvalidation);
+    }
+
+    /**
+     * Part of every {@code jobs_search} key.
+     */
+    public long searchGeneration() {
+        return searchGeneration.get();
+    }
+
+    public long listingGeneration() {
+        return listingGeneration.get();
+    }
+
+    /**
+     * Key of a search result page in {@code jobs_search}, tied to the current generation.
+     */
+    public SearchKey searchKey(JobSearchCriteria criteria, Pageable pageable) {
+        return SearchKey.of(searchGeneration(), criteria, pageable);
+    }
+
+    /**
+     * Key of a paged listing in {@code jobs} and {@code jobs_latest}, tied to the current generation.
+     */
+    public ListingKey listingKey(int page, int size) {
+        return new ListingKey(listingGeneration(), page, size);
+    }
+
+    public void jobCreated(Job job) {
+        jobsCreated(Set.of(JobKeys.of(job)));
+    }
+
+    public void jobsCreated(Collection<JobKeys> jobs) {
+        AfterCommit.run(() -> {
+            bumpGenerations();
+            evictTotals(true);
+            jobs.forEach(this::evictGroups);
+            // Drops remembered not-founds for the new id and title; a cached single match for the
+            // same title would now be ambiguous
+            jobs.forEach(this::evictJob);
+        });
+    }
+
+    public void jobUpdated(JobKeys before, JobKeys after) {
+        AfterCommit.run(() -> {
+            if (before.search() == null || !before.search().equals(after.search())) {
+                bump(SEARCH_GENERATION, searchGeneration);
+            }
+            bump(LISTING_GENERATION, listingGeneration);
+            evictTotals(!Objects.equals(before.jobType(), after.jobType()));
+            evictGroups(before);
+            evictGroups(after);
+            evictJob(before);
+            evict("job", lower(after.jobTitle()));
+        });
+    }
+
+    public void jobDeleted(JobKeys job) {
+        AfterCommit.run(() -> {
+            bumpGenerations();
+            evictTotals(true);
+            evictGroups(job);
+            evictJob(job);
+        });
+    }
+
+    private void bumpGenerations() {
+        bump(SEARCH_GENERATION, searchGeneration);
+        bump(LISTING_GENERATION, listingGeneration);
+    }
+
+    private void bump(String name, AtomicLong generation) {
+        long next = sharedCacheStore.incrementGeneration(name);
+        generation.accumulateAndGet(next, Math::max);
+        invalidationBus.publish(CacheInvalidation.generation(nodeId, name, next));
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.kind() != CacheInvalidation.Kind.GENERATION) {
+            return;
+        }
+        // Messages can arrive out of order; generations only move forward
+        switch (invalidation.cacheName()) {
+            case SEARCH_GENERATION -> searchGeneration.accumulateAndGet(invalidation.generation(), Math::max);
+            case LISTING_GENERATION -> listingGeneration.accumulateAndGet(invalidation.generation(), Math::max);
+            default -> log.debug("Ignoring unknown generation {}", invalidation.cacheName());
+        }
+    }
+
+    private void evictTotals(boolean typeCountsChanged) {
+        evict("job_counts", "total");
+        if (typeCountsChanged) {
+            evict("job_counts", "byType");
+        }
+    }
+
+    private void evictGroups(JobKeys job) {
+        evict("jobs_by_company", lower(job.company()));
+        evict("jobs_by_experience", lower(job.experience()));
+    }
+
+    private void evictJob(JobKeys job) {
+        evict("job", job.id());
+        evict("job_summaries", job.id());
+        String title = lower(job.jobTitle());
+        if (title != null) {
+            evict("job", title);
+            evict("job", title + "_" + job.id());
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        if (key == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    public record ListingKey(long generation, int page, int size) {
+    }
+
+    /**
+     * Every criteria field and the page as its own component, so distinct searches never share a key.
+     */
+    public record SearchKey(long generation, String keyword, String location, String jobType, String company,
+                            Long minSalary, Long maxSalary, String currency, LocalDate postedFrom,
+                            LocalDate postedTo, int page, int size, Sort sort) {
+
+        static SearchKey of(long generation, JobSearchCriteria criteria, Pageable pageable) {
+            JobSearchCriteria c = criteria != null ? criteria : new JobSearchCriteria();
+            return new SearchKey(generation, c.getKeyword(), c.getLocation(), c.getJobType(), c.getCompany(),
+                    c.getMinSalary(), c.getMaxSalary(), c.getCurrency(), c.getPostedFrom(), c.getPostedTo(),
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+    }
+
+    /**
+     * The values of a job that cache keys are derived from, captured before the job changes.
+     * {@code search} may be null when unknown, which counts as a change.
+     */
+    public record JobKeys(Long id, String jobTitle, String company, String experience, String jobType,
+                          SearchFields search) {
+
+        public static JobKeys of(Job job) {
+            return new JobKeys(job.getId(), job.getJobTitle(), job.getCompany(), job.getExperience(),
+                    job.getJobType(), SearchFields.of(job));
+        }
+
+        public static Set<JobKeys> of(Collection<Job> jobs) {
+            Set<JobKeys> keys = new HashSet<>();
+            jobs.forEach(job -> keys.add(of(job)));
+            return keys;
+        }
+    }
+
+    /**
+     * The job values that search matching, ordering and facets read.
+     */
+    public record SearchFields(String jobTitle, String company, String location, String jobDetails,
+                               String jobType, String experience, Long salaryMin, Long salaryMax,
+                               String currency, LocalDateTime postedAt) {
+
+        static SearchFields of(Job job) {
+            return new SearchFields(job.getJobTitle(), job.getCompany(), job.getLocation(), job.getJobDetails(),
+                    job.getJobType(), job.getExperience(), job.getSalaryMin(), job.getSalaryMax(),
+                    job.getCurrency(), job.getPostedAt());
+        }
+    }
+}
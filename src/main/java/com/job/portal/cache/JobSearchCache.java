@@ -0,0 +1,93 @@
+package com.job.portal.cache;
+
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.search.JobIdPage;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Search results cached as id pages in {@code jobs_search}, served with list cards from the
+ * per-id {@code job_summaries} cache. A job appears once in memory however many searches
+ * return it, and changing it only evicts its own summary.
+ */
+@Component
+public class JobSearchCache {
+
+    private final CacheManager cacheManager;
+    private final JobRepository jobRepository;
+    private final JobCacheInvalidator jobCacheInvalidator;
+
+    public JobSearchCache(CacheManager cacheManager, JobRepository jobRepository,
+                          JobCacheInvalidator jobCacheInvalidator) {
+        this.cacheManager = cacheManager;
+        this.jobRepository = jobRepository;
+        this.jobCacheInvalidator = jobCacheInvalidator;
+    }
+
+    /**
+     * The cached id page for a search, running {@code search} once on a miss.
+     */
+    public JobIdPage ids(JobSearchCriteria criteria, Pageable pageable, Supplier<JobIdPage> search) {
+        return cache("jobs_search").get(jobCacheInvalidator.searchKey(criteria, pageable), search::get);
+    }
+
+    /**
+     * Summaries of the given jobs in the given order, loading all misses with one query. Jobs
+     * deleted since the ids were cached are left out.
+     */
+    public List<JobSummaryDTO> summaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Cache summaries = cache("job_summaries");
+        Map<Long, JobSummaryDTO> byId = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            JobSummaryDTO summary = summaries.get(id, JobSummaryDTO.class);
+            if (summary != null) {
+                byId.put(id, summary);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Every job write bumps the listing generation; a write that commits during the
+            // query may have been read before it, so those rows are served but not cached
+            long generation = jobCacheInvalidator.listingGeneration();
+            List<JobSummaryDTO> loaded = jobRepository.findSummariesByIdIn(missing);
+            boolean current = generation == jobCacheInvalidator.listingGeneration();
+            for (JobSummaryDTO summary : loaded) {
+                byId.put(summary.getId(), summary);
+                if (current) {
+                    summaries.put(summary.getId(), summary);
+                }
+            }
+        }
+        List<JobSummaryDTO> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobSummaryDTO summary = byId.get(id);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,191 @@
+package com.job.portal.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rough retained-heap estimate of a cached object graph, for weight-based cache eviction.
+ * <p>
+ * Assumes a 64-bit JVM with compressed references. Application objects are walked field by
+ * field; JDK types that cannot be reflected on (strings, collections, maps, dates, numbers) are
+ * sized from their public state. The result is meant to be within a small factor of the real
+ * footprint, which is enough to keep one cache holding full job lists from crowding out the rest.
+ */
+public final class ObjectSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    // Stops a pathological graph from turning a cache put into a full heap walk
+    private static final int MAX_OBJECTS = 200_000;
+
+    private static final Map<Class<?>, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private ObjectSizeEstimator() {
+    }
+
+    /**
+     * Weighs an entry by the estimated size of its key and value, in bytes.
+     */
+    public static Weigher<Object, Object> weigher() {
+        return (key, value) -> (int) Math.min(Integer.MAX_VALUE, estimate(key) + estimate(value));
+    }
+
+    public static long estimate(Object root) {
+        if (root == null) {
+            return 0;
+        }
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long total = 0;
+        while (!pending.isEmpty() && visited.size() < MAX_OBJECTS) {
+            Object current = pending.pop();
+            if (visited.add(current)) {
+                total += sizeOf(current, pending);
+            }
+        }
+        return total;
+    }
+
+    private static long sizeOf(Object object, Deque<Object> pending) {
+        if (object instanceof String string) {
+            // Latin-1 compact string: header + hash/coder fields, plus the byte array
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + string.length());
+        }
+        if (object instanceof Enum<?> || object instanceof Class<?>) {
+            return 0;
+        }
+        if (object instanceof BigDecimal || object instanceof BigInteger) {
+            return 40;
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return 16;
+        }
+        if (object instanceof LocalDateTime) {
+            return 72;
+        }
+        if (object instanceof LocalDate || object instanceof LocalTime) {
+            return 24;
+        }
+        if (object instanceof Temporal) {
+            return 32;
+        }
+        if (object instanceof Collection<?> collection) {
+            pending.addAll(nonNull(collection));
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+        }
+        if (object instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> {
+                push(pending, key);
+                push(pending, value);
+            });
+            // HashMap node (header, hash, key, value, next) plus its table slot
+            return align(OBJECT_HEADER + 36) + (long) map.size() * (32 + REFERENCE * 2);
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return arraySize(object, type.getComponentType(), pending);
+        }
+        Layout layout = LAYOUTS.computeIfAbsent(type, Layout::of);
+        for (Field field : layout.references()) {
+            try {
+                push(pending, field.get(object));
+            } catch (IllegalAccessException e) {
+                // Counted as a reference only
+            }
+        }
+        return layout.shallowSize();
+    }
+
+    private static long arraySize(Object array, Class<?> componentType, Deque<Object> pending) {
+        int length = Array.getLength(array);
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) primitiveSize(componentType) * length);
+        }
+        for (int i = 0; i < length; i++) {
+            push(pending, Array.get(array, i));
+        }
+        return align(ARRAY_HEADER + (long) REFERENCE * length);
+    }
+
+    private static void push(Deque<Object> pending, Object value) {
+        if (value != null) {
+            pending.push(value);
+        }
+    }
+
+    private static List<Object> nonNull(Collection<?> collection) {
+        List<Object> elements = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Shallow size of a class and the reference fields worth following.
+     */
+    private record Layout(long shallowSize, List<Field> references) {
+
+        static Layout of(Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        size += primitiveSize(field.getType());
+                    } else {
+                        size += REFERENCE;
+                        // JDK internals stay opaque; their public state is sized above instead
+                        if (field.trySetAccessible()) {
+                            references.add(field);
+                        }
+                    }
+                }
+            }
+            return new Layout(align(size), List.copyOf(references));
+        }
+    }
+}
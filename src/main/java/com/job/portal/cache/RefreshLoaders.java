@@ -0,0 +1,57 @@
+package com.job.portal.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Loaders for caches configured with a refresh interval. A service registers how to recompute
+ * the entries it caches, and an entry read after the interval is reloaded in the background
+ * while callers keep getting the previous value.
+ * <p>
+ * A loader returns null for keys it cannot recompute; on refresh those entries are dropped and
+ * the next read loads them through the cached method as usual.
+ */
+@Component
+public class RefreshLoaders {
+
+    private final Map<String, Function<Object, Object>> loaders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> refreshes = new ConcurrentHashMap<>();
+
+    public void register(String cacheName, Function<Object, Object> loader) {
+        loaders.put(cacheName, loader);
+    }
+
+    /**
+     * The loader for a cache, resolved at load time since caches are built before the services
+     * that register loaders.
+     */
+    public CacheLoader<Object, Object> loaderFor(String cacheName) {
+        LongAdder count = refreshes.computeIfAbsent(cacheName, name -> new LongAdder());
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                Function<Object, Object> loader = loaders.get(cacheName);
+                return loader == null ? null : loader.apply(key);
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                count.increment();
+                return load(key);
+            }
+        };
+    }
+
+    /**
+     * Background refresh-ahead reloads started for a cache so far.
+     */
+    public long refreshCount(String cacheName) {
+        LongAdder count = refreshes.get(cacheName);
+        return count == null ? 0 : count.sum();
+    }
+}
@@ -0,0 +1,120 @@
+package com.job.portal.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.job.portal.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON bodies of public GET responses, so a payload served from the object caches is
+ * not re-serialized by Jackson on every request.
+ * <p>
+ * Bodies are keyed by the identity of the payload object: a cache hit upstream returns the same
+ * instance and reuses its bytes, while a reload produces a new instance and is serialized again,
+ * so there is nothing to invalidate here. Each body carries a strong ETag, which Spring MVC uses
+ * to answer a matching {@code If-None-Match} with {@code 304 Not Modified}. Larger bodies are
+ * also kept gzip-compressed for clients that accept it.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Object, Body> bodies;
+
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             @Value("${app.cache.responses.max-weight:16MB}") DataSize maxWeight) {
+        this.objectMapper = objectMapper;
+        // Weak keys compare by identity and let a body go once its payload leaves the object caches
+        this.bodies = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(maxWeight.toBytes())
+                .weigher((Object payload, Body body) -> body.size())
+                .build();
+    }
+
+    /**
+     * A 200 response for an {@link ApiResponse}, keyed by its data so a new wrapper around the
+     * same cached data still hits.
+     */
+    public ResponseEntity<byte[]> ok(HttpServletRequest request, ApiResponse<?> response) {
+        Object identity = response.getData() != null ? response.getData() : response;
+        return ok(request, identity, response, response.isSuccess() + ":" + response.getMessage());
+    }
+
+    /**
+     * A 200 response whose body is the payload itself.
+     */
+    public ResponseEntity<byte[]> ok(HttpServletRequest request, Object payload) {
+        return ok(request, payload, payload, "");
+    }
+
+    private ResponseEntity<byte[]> ok(HttpServletRequest request, Object identity, Object payload, String variant) {
+        Body body = bodies.getIfPresent(identity);
+        if (body == null || !body.variant().equals(variant)) {
+            body = serialize(payload, variant);
+            bodies.put(identity, body);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (body.gzip() == null) {
+            return response.eTag(body.etag()).body(body.json());
+        }
+        response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            // A different representation needs its own strong ETag
+            return response.eTag(body.etag() + "-gz")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(body.gzip());
+        }
+        return response.eTag(body.etag()).body(body.json());
+    }
+
+    private Body serialize(Object payload, String variant) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        }
+        byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+        return new Body(variant, json, gzip, DigestUtils.md5DigestAsHex(json));
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private record Body(String variant, byte[] json, byte[] gzip, String etag) {
+
+        int size() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
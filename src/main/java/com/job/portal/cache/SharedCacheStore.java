@@ -0,0 +1,32 @@
+package com.job.portal.cache;
+
+import java.time.Duration;
+
+/**
+ * The shared second cache tier behind each node's Caffeine caches, e.g. Redis in a multi-node
+ * deployment. Values are stored as the local caches store them; a networked backend is
+ * responsible for serializing them.
+ * <p>
+ * Also holds the cache generation counters, so every node builds generation-keyed entries
+ * (see {@link JobCacheInvalidator}) from the same numbers.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * The stored value, or null if absent or expired.
+     */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+
+    long generation(String name);
+
+    /**
+     * Atomically advances a generation and returns the new value.
+     */
+    long incrementGeneration(String name);
+}
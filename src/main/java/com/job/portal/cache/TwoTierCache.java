@@ -0,0 +1,105 @@
+package com.job.portal.cache;
+
+import java.time.Duration;
+
+/**
+ * A node-local Caffeine cache (L1) in front of a {@link SharedCacheStore} (L2). Reads that miss
+ * locally are answered from L2 when possible, so a cold replica warms from entries other nodes
+ * have already loaded; loads and puts are written to both tiers.
+ * <p>
+ * Evictions and clears remove the entry from L2 and are broadcast on the
+ * {@link CacheInvalidationBus}, so every node drops its local copy as well. Remembered misses
+ * stay node-local and are dropped by the same broadcasts.
+ */
+public class TwoTierCache extends CoalescingCaffeineCache {
+
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+    private final Duration ttl;
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                        boolean allowNullValues, SharedCacheStore sharedStore,
+                        CacheInvalidationBus invalidationBus, String nodeId, Duration ttl, Duration negativeTtl) {
+        super(name, cache, allowNullValues, negativeTtl);
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = nodeId;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected Object storedValue(Object key) {
+        Object local = super.storedValue(key);
+        if (local != null) {
+            return local;
+        }
+        Object shared = sharedStore.get(getName(), key);
+        if (shared != null) {
+            getNativeCache().put(key, shared);
+        }
+        return shared;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return storedValue(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        sharedStore.put(getName(), key, toStoreValue(value), ttl);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        sharedStore.evict(getName(), key);
+        invalidationBus.publish(CacheInvalidation.evict(nodeId, getName(), key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        sharedStore.evict(getName(), key);
+        invalidationBus.publish(CacheInvalidation.evict(nodeId, getName(), key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        sharedStore.clear(getName());
+        invalidationBus.publish(CacheInvalidation.clear(nodeId, getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = super.invalidate();
+        sharedStore.clear(getName());
+        invalidationBus.publish(CacheInvalidation.clear(nodeId, getName()));
+        return present;
+    }
+
+    /**
+     * Applies another node's change to this node's L1 only; L2 was already updated by the sender.
+     */
+    public void applyRemote(CacheInvalidation invalidation) {
+        switch (invalidation.kind()) {
+            case EVICT -> super.evict(invalidation.key());
+            case CLEAR -> super.clear();
+            default -> {
+            }
+        }
+    }
+}
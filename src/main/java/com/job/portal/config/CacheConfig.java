@@ -1,34 +1,159 @@
 package com.job.portal.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.job.portal.cache.CacheInvalidationBus;
+import com.job.portal.cache.CachePolicyProperties;
+import com.job.portal.cache.CoalescingCaffeineCache;
+import com.job.portal.cache.InMemorySharedCacheStore;
+import com.job.portal.cache.InProcessCacheInvalidationBus;
+import com.job.portal.cache.ObjectSizeEstimator;
+import com.job.portal.cache.RefreshLoaders;
+import com.job.portal.cache.SharedCacheStore;
+import com.job.portal.cache.TwoTierCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties(CachePolicyProperties.class)
 public class CacheConfig {
 
+    public static final List<String> CACHE_NAMES = List.of(
+            "jobs",
+            "job",
+            "job_summaries",
+            "jobs_by_experience",
+            "jobs_latest",
+            "jobs_search",
+            "job_counts",
+            "jobs_by_company",
+            "interview_questions",
+            "learning_resources",
+            "quizzes",
+            "prepared_quizzes",
+            "topics");
+
+    /**
+     * Caches filled from this node's search index and latest-jobs feed, which other nodes only
+     * catch up with after their own writes or rebuilds. Publishing them to the shared tier would
+     * let a node serve another node's view, so they stay local even when two-tier is enabled;
+     * their keys still carry the shared generations, so remote writes retire them too.
+     */
+    public static final Set<String> NODE_LOCAL_CACHES = Set.of("jobs_latest", "jobs_search");
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "jobs",
-                "job",
-                "jobs_by_experience",
-                "jobs_latest",
-                "jobs_search",
-                "job_counts",
-                "jobs_by_company",
-                "interview_questions",
-                "learning_resources",
-                "quizzes",
-                "topics");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMinutes(5))
-                .maximumSize(10_000)
-                .recordStats());
+    public CacheManager cacheManager(CachePolicyProperties policies, RefreshLoaders refreshLoaders,
+                                     @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                                     SharedCacheStore sharedCacheStore, CacheInvalidationBus cacheInvalidationBus) {
+        CachePolicyProperties.TwoTier twoTier = policies.twoTier();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                CachePolicyProperties.Spec spec = policies.specFor(name);
+                if (twoTier.enabled() && !NODE_LOCAL_CACHES.contains(name)) {
+                    return new TwoTierCache(name, cache, isAllowNullValues(), sharedCacheStore,
+                            cacheInvalidationBus, twoTier.nodeId(), spec.ttl(), spec.negativeTtl());
+                }
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), spec.negativeTtl());
+            }
+        };
+        // Only the caches below exist; a typo in a cache name fails instead of creating an unbounded cache
+        cacheManager.setCacheNames(List.of());
+        for (String name : CACHE_NAMES) {
+            CachePolicyProperties.Spec spec = policies.specFor(name);
+            Caffeine<Object, Object> builder = builder(spec);
+            if (spec.refresh() != null) {
+                // Refreshes run on the small bounded pool; a rejected refresh keeps the old value until the next read
+                builder.refreshAfterWrite(spec.refresh()).executor(refreshExecutor);
+                cacheManager.registerCustomCache(name, builder.build(refreshLoaders.loaderFor(name)));
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+        }
+        if (twoTier.enabled()) {
+            cacheInvalidationBus.subscribe(twoTier.nodeId(), invalidation -> {
+                if (cacheManager.getCache(invalidation.cacheName()) instanceof TwoTierCache cache) {
+                    cache.applyRemote(invalidation);
+                }
+            });
+        }
         return cacheManager;
     }
+
+    // In-process stand-ins; a multi-node deployment defines networked beans of these types instead
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedCacheStore sharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InProcessCacheInvalidationBus();
+    }
+
+    private static Caffeine<Object, Object> builder(CachePolicyProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(spec.ttl())
+                .recordStats();
+        if (spec.weighted()) {
+            builder.maximumWeight(spec.maxWeight().toBytes()).weigher(ObjectSizeEstimator.weigher());
+        } else if (spec.maxEntries() != null) {
+            builder.maximumSize(spec.maxEntries());
+        }
+        return builder;
+    }
+
+    // Caffeine's own statistics (gets, puts, evictions, size) are bound by Spring Boot's cache metrics;
+    // these add what they cannot see: method loads and their latency, coalesced misses and estimated bytes
+    @Bean
+    public MeterBinder cacheLoadMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                if (!(cacheManager.getCache(name) instanceof CoalescingCaffeineCache cache)) {
+                    continue;
+                }
+                FunctionTimer.builder("cache.loads", cache, CoalescingCaffeineCache::loadCount,
+                                CoalescingCaffeineCache::totalLoadTime, TimeUnit.NANOSECONDS)
+                        .tag("cache", name)
+                        .description("Cache misses that ran the cached method")
+                        .register(registry);
+                FunctionCounter.builder("cache.loads.coalesced", cache, CoalescingCaffeineCache::coalescedCount)
+                        .tag("cache", name)
+                        .description("Cache misses that waited for a load already in flight")
+                        .register(registry);
+                FunctionCounter.builder("cache.loads.failed", cache, CoalescingCaffeineCache::loadFailureCount)
+                        .tag("cache", name)
+                        .description("Cache loads that threw")
+                        .register(registry);
+                FunctionCounter.builder("cache.negative.hits", cache, CoalescingCaffeineCache::negativeHitCount)
+                        .tag("cache", name)
+                        .description("Lookups answered with a remembered not-found")
+                        .register(registry);
+                Gauge.builder("cache.estimated.size", cache, c -> {
+                            Long bytes = c.estimatedBytes();
+                            return bytes == null ? Double.NaN : bytes;
+                        })
+                        .tag("cache", name)
+                        .baseUnit("bytes")
+                        .description("Estimated memory held by a weight-bounded cache")
+                        .register(registry);
+            }
+        };
+    }
 }
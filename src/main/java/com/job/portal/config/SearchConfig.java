@@ -0,0 +1,27 @@
+package com.job.portal.config;
+
+import com.job.portal.repository.JobRepository;
+import com.job.portal.search.InvertedIndexJobSearchEngine;
+import com.job.portal.search.JobSearchEngine;
+import com.job.portal.search.SpecificationJobSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the job search backend: {@code index} (default) serves searches from memory,
+ * {@code specification} runs every search as a database query.
+ */
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public JobSearchEngine jobSearchEngine(JobRepository jobRepository,
+                                           @Value("${app.search.engine:index}") String engine) {
+        SpecificationJobSearchEngine specificationEngine = new SpecificationJobSearchEngine(jobRepository);
+        if ("specification".equalsIgnoreCase(engine)) {
+            return specificationEngine;
+        }
+        return new InvertedIndexJobSearchEngine(jobRepository, specificationEngine);
+    }
+}
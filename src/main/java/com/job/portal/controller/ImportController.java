@@ -0,0 +1,26 @@
+package com.job.portal.controller;
+
+import com.job.portal.dto.BulkImportResultDto;
+import com.job.portal.service.BulkImporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final BulkImporter bulkImporter;
+
+    // Progress of the bulk imports running on this instance
+    @GetMapping
+    @org.springframework.security.access.prepost.PreAuthorize("hasAnyRole('ADMIN', 'RECRUITER')")
+    public ResponseEntity<List<BulkImportResultDto>> getRunning() {
+        return ResponseEntity.ok(bulkImporter.running());
+    }
+}
@@ -1,19 +1,26 @@
 package com.job.portal.controller;
 
+import com.job.portal.dto.BulkImportResultDto;
 import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.dto.InterviewQuestionSearchHitDto;
 import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.service.BulkImporter;
 import com.job.portal.service.InterviewQuestionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,6 +30,10 @@ import java.util.List;
 public class InterviewQuestionController {
 
     private final InterviewQuestionService service;
+    private final BulkImporter bulkImporter;
+
+    @Value("${app.practice.max-size:50}")
+    private int practiceMaxSize;
 
     @PostMapping
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
@@ -38,6 +49,15 @@ public class InterviewQuestionController {
         return new ResponseEntity<>(service.createBatch(dtos), HttpStatus.CREATED);
     }
 
+    // Streams the array and saves it in chunks, answering with a summary instead of the saved items
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResultDto> importBatch(HttpServletRequest request) throws IOException {
+        log.info("REST request to import InterviewQuestions");
+        return ResponseEntity.ok(bulkImporter.run("interview-questions", request.getInputStream(), InterviewQuestionDto.class,
+                service::createBatch, service::create));
+    }
+
     @PutMapping("/{id}")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<InterviewQuestionDto> update(@PathVariable Long id,
@@ -54,6 +74,26 @@ public class InterviewQuestionController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/search/text")
+    public ResponseEntity<Page<InterviewQuestionSearchHitDto>> searchText(
+            @RequestParam String q,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) InterviewQuestion.Difficulty difficulty,
+            @PageableDefault Pageable pageable) {
+        log.info("REST request to full-text search InterviewQuestions for: {}", q);
+        return ResponseEntity.ok(service.searchText(q, tag, difficulty, pageable));
+    }
+
+    @GetMapping("/practice")
+    public ResponseEntity<List<InterviewQuestionDto>> practiceSet(
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) InterviewQuestion.Difficulty difficulty,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("REST request for a practice set of {} InterviewQuestions by tag: {} and difficulty: {}",
+                size, tag, difficulty);
+        return ResponseEntity.ok(service.practiceSet(tag, difficulty, Math.min(Math.max(size, 1), practiceMaxSize)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<InterviewQuestionDto> getById(@PathVariable Long id) {
         log.info("REST request to get InterviewQuestion: {}", id);
@@ -1,22 +1,31 @@
 package com.job.portal.controller;
 
+import com.job.portal.cache.ResponseBodyCache;
 import com.job.portal.dto.ApiResponse;
+import com.job.portal.dto.BulkImportResultDto;
+import com.job.portal.dto.CursorPage;
+import com.job.portal.dto.FacetedPage;
 import com.job.portal.dto.JobDTO;
 import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.dto.SliceResponse;
+import com.job.portal.service.BulkImporter;
 import com.job.portal.service.JobService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,13 +34,25 @@ import java.util.Map;
 @RequestMapping("/api/jobs")
 public class JobController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private JobService jobService;
 
-    // Endpoint to get all jobs
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    @Autowired
+    private BulkImporter bulkImporter;
+
+    @Value("${app.search.default-currency:INR}")
+    private String defaultCurrency;
+
+    // Endpoint to get all jobs, one bounded page at a time in newest-first order
     @GetMapping
-    public ResponseEntity<ApiResponse<List<JobDTO>>> getJobs() {
-        List<JobDTO> jobs = jobService.getAllJobs();
+    public ResponseEntity<ApiResponse<List<JobSummaryDTO>>> getJobs(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<JobSummaryDTO> jobs = jobService.getAllJobs(Math.max(page, 0), clampPageSize(size));
         if (jobs.isEmpty()) {
             return ResponseEntity.ok(ApiResponse.success("No jobs found", Collections.emptyList()));
         }
@@ -39,8 +60,8 @@ public class JobController {
     }
 
     @GetMapping("/experience/{experience}")
-    public ResponseEntity<ApiResponse<List<JobDTO>>> getJobsByExperience(@PathVariable String experience) {
-        List<JobDTO> jobs = jobService.getJobsByExperience(experience);
+    public ResponseEntity<ApiResponse<List<JobSummaryDTO>>> getJobsByExperience(@PathVariable String experience) {
+        List<JobSummaryDTO> jobs = jobService.getJobsByExperience(experience);
         if (jobs == null || jobs.isEmpty()) {
             return ResponseEntity
                     .ok(ApiResponse.success("No jobs found for experience: " + experience, Collections.emptyList()));
@@ -49,13 +70,23 @@ public class JobController {
     }
 
     // Endpoint to get the latest jobs sorted by the most recent posting time
+    // Served as pre-serialized JSON with an ETag; the feed returns the same list until it changes
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<List<JobDTO>>> getLatestJobs() {
-        List<JobDTO> jobs = jobService.getLatestJobs();
+    public ResponseEntity<byte[]> getLatestJobs(@RequestParam(defaultValue = "20") int limit,
+            HttpServletRequest request) {
+        List<JobSummaryDTO> jobs = jobService.getLatestJobs(clampPageSize(limit));
         if (jobs.isEmpty()) {
-            return ResponseEntity.ok(ApiResponse.success("No latest jobs found", Collections.emptyList()));
+            return responseBodyCache.ok(request, ApiResponse.success("No latest jobs found", Collections.emptyList()));
         }
-        return ResponseEntity.ok(ApiResponse.success("Latest jobs fetched successfully", jobs));
+        return responseBodyCache.ok(request, ApiResponse.success("Latest jobs fetched successfully", jobs));
+    }
+
+    // Keyset-paged latest jobs: pass an empty cursor for the first page, then the returned "next" token
+    @GetMapping(value = "/latest", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<JobSummaryDTO>>> getLatestJobsPage(@RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<JobSummaryDTO> result = jobService.getLatestJobs(cursor, clampPageSize(size));
+        return ResponseEntity.ok(ApiResponse.success("Latest jobs fetched successfully", result));
     }
 
     // Endpoint to get a specific job by ID
@@ -106,8 +137,8 @@ public class JobController {
     }
 
     @GetMapping("/company/{company}")
-    public ResponseEntity<ApiResponse<List<JobDTO>>> getJobsByCompany(@PathVariable String company) {
-        List<JobDTO> jobs = jobService.getJobsByCompany(company);
+    public ResponseEntity<ApiResponse<List<JobSummaryDTO>>> getJobsByCompany(@PathVariable String company) {
+        List<JobSummaryDTO> jobs = jobService.getJobsByCompany(company);
         if (jobs.isEmpty()) {
             return ResponseEntity
                     .ok(ApiResponse.success("No jobs found for company: " + company, Collections.emptyList()));
@@ -120,30 +151,24 @@ public class JobController {
         return ResponseEntity.ok(ApiResponse.success("Job stats fetched successfully", jobService.getJobStatsByType()));
     }
 
+    // Salary bounds are compared in currency (an ISO code), app.search.default-currency when not given.
+    // sortBy also accepts "relevance" to rank keyword matches by score;
+    // facets=true adds jobType/location/company/experience counts for the same criteria
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<JobDTO>>> searchJobs(@RequestParam(required = false) String keyword,
-            @RequestParam(required = false) String location,
-            @RequestParam(required = false) String jobType,
-            @RequestParam(required = false) String company,
-            @RequestParam(required = false) String minSalary,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate postedFrom,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate postedTo,
+    public ResponseEntity<ApiResponse<Page<JobSummaryDTO>>> searchJobs(@ModelAttribute JobSearchCriteria criteria,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdDate") String sortBy,
-            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+            @RequestParam(defaultValue = "postedAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(defaultValue = "false") boolean facets) {
 
-        JobSearchCriteria criteria = new JobSearchCriteria();
-        criteria.setKeyword(keyword);
-        criteria.setLocation(location);
-        criteria.setJobType(jobType);
-        criteria.setCompany(company);
-        criteria.setMinSalary(minSalary);
-        criteria.setPostedFrom(postedFrom);
-        criteria.setPostedTo(postedTo);
+        criteria.applyDefaultCurrency(defaultCurrency);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<JobDTO> result = jobService.searchJobs(criteria, pageable);
+        Pageable pageable = PageRequest.of(page, clampPageSize(size), sort(direction, sortBy));
+        Page<JobSummaryDTO> result = jobService.searchJobs(criteria, pageable);
+        if (facets) {
+            result = new FacetedPage<>(result, jobService.getSearchFacets(criteria));
+        }
 
         if (result.isEmpty()) {
             return ResponseEntity.ok(ApiResponse.success("No jobs found matching criteria", result));
@@ -151,6 +176,42 @@ public class JobController {
         return ResponseEntity.ok(ApiResponse.success("Jobs found successfully", result));
     }
 
+    // count=none skips the total entirely; count=approximate adds a cached background estimate
+    @GetMapping(value = "/search", params = {"count", "count!=exact", "!cursor"})
+    public ResponseEntity<ApiResponse<SliceResponse<JobSummaryDTO>>> searchJobsSlice(@ModelAttribute JobSearchCriteria criteria,
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "postedAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+
+        criteria.applyDefaultCurrency(defaultCurrency);
+
+        Pageable pageable = PageRequest.of(page, clampPageSize(size), sort(direction, sortBy));
+        SliceResponse<JobSummaryDTO> result = jobService.searchJobsSlice(criteria, pageable, "approximate".equalsIgnoreCase(count));
+
+        if (result.getContent().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success("No jobs found matching criteria", result));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Jobs found successfully", result));
+    }
+
+    // Keyset-paged search in newest-first order; skips the count query and stays fast on deep pages
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<JobSummaryDTO>>> searchJobsAfter(@ModelAttribute JobSearchCriteria criteria,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        criteria.applyDefaultCurrency(defaultCurrency);
+
+        CursorPage<JobSummaryDTO> result = jobService.searchJobs(criteria, cursor, clampPageSize(size));
+
+        if (result.getContent().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success("No jobs found matching criteria", result));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Jobs found successfully", result));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'RECRUITER')")
     public ResponseEntity<ApiResponse<JobDTO>> createJob(@Valid @RequestBody JobDTO jobDTO) {
@@ -167,6 +228,15 @@ public class JobController {
                 .body(ApiResponse.success("Batch jobs created successfully", savedJobs));
     }
 
+    // Streams the array and saves it in chunks, answering with a summary instead of the saved jobs
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECRUITER')")
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importJobs(HttpServletRequest request) throws IOException {
+        BulkImportResultDto result = bulkImporter.run("jobs", request.getInputStream(), JobDTO.class,
+                jobService::saveAllJobs, jobService::saveJob);
+        return ResponseEntity.ok(ApiResponse.success("Jobs import finished", result));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECRUITER')")
     public ResponseEntity<ApiResponse<JobDTO>> updateJob(@PathVariable Long id, @Valid @RequestBody JobDTO jobDTO) {
@@ -180,4 +250,17 @@ public class JobController {
         jobService.deleteJob(id);
         return ResponseEntity.ok(ApiResponse.success("Job deleted successfully", null));
     }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // createdDate/createdTime are accepted for existing clients; both mean the posting timestamp.
+    // Other columns may be null and sort nulls last, so the database and the search index agree
+    // whatever the dialect's default; postedAt is never null and keeps a plain, index-served order
+    private static Sort sort(Sort.Direction direction, String sortBy) {
+        String property = "createdDate".equals(sortBy) || "createdTime".equals(sortBy) ? "postedAt" : sortBy;
+        Sort.Order order = new Sort.Order(direction, property);
+        return Sort.by("postedAt".equals(property) ? order : order.nullsLast());
+    }
 }
@@ -1,8 +1,11 @@
 package com.job.portal.controller;
 
+import com.job.portal.dto.BulkImportResultDto;
 import com.job.portal.dto.LearningResourceDto;
 import com.job.portal.entity.LearningResource;
+import com.job.portal.service.BulkImporter;
 import com.job.portal.service.LearningResourceService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +14,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,6 +28,7 @@ import java.util.List;
 public class LearningResourceController {
 
     private final LearningResourceService service;
+    private final BulkImporter bulkImporter;
 
     @PostMapping
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
@@ -38,6 +44,15 @@ public class LearningResourceController {
         return new ResponseEntity<>(service.createBatch(dtos), HttpStatus.CREATED);
     }
 
+    // Streams the array and saves it in chunks, answering with a summary instead of the saved items
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResultDto> importBatch(HttpServletRequest request) throws IOException {
+        log.info("REST request to import LearningResources");
+        return ResponseEntity.ok(bulkImporter.run("learning-resources", request.getInputStream(), LearningResourceDto.class,
+                service::createBatch, service::create));
+    }
+
     @PutMapping("/{id}")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<LearningResourceDto> update(@PathVariable Long id,
@@ -1,7 +1,15 @@
 package com.job.portal.controller;
 
+import com.job.portal.cache.ResponseBodyCache;
+import com.job.portal.dto.BulkImportResultDto;
+import com.job.portal.dto.QuizAttemptResultDto;
 import com.job.portal.dto.QuizDto;
+import com.job.portal.dto.QuizSubmissionDto;
+import com.job.portal.mapper.QuizMapper;
+import com.job.portal.service.BulkImporter;
+import com.job.portal.service.QuizAttemptService;
 import com.job.portal.service.QuizService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,9 +18,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/quizzes")
 @RequiredArgsConstructor
@@ -20,6 +32,10 @@ import org.springframework.web.bind.annotation.*;
 public class QuizController {
 
     private final QuizService service;
+    private final BulkImporter bulkImporter;
+    private final QuizAttemptService attemptService;
+    private final ResponseBodyCache responseBodyCache;
+    private final QuizMapper quizMapper;
 
     @PostMapping
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
@@ -35,6 +51,15 @@ public class QuizController {
         return new ResponseEntity<>(service.createBatch(dtos), HttpStatus.CREATED);
     }
 
+    // Streams the array and saves it in chunks, answering with a summary instead of the saved items
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResultDto> importBatch(HttpServletRequest request) throws IOException {
+        log.info("REST request to import Quizzes");
+        return ResponseEntity.ok(bulkImporter.run("quizzes", request.getInputStream(), QuizDto.class,
+                service::createBatch, service::create));
+    }
+
     @PutMapping("/{id}")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<QuizDto> update(@PathVariable Long id, @Valid @RequestBody QuizDto dto) {
@@ -50,32 +75,64 @@ public class QuizController {
         return ResponseEntity.noContent().build();
     }
 
+    // Only admins see the correct answers; everyone else gets the cached paper
     @GetMapping("/{id}")
-    public ResponseEntity<QuizDto> getById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getById(@PathVariable Long id, HttpServletRequest request,
+            Authentication authentication) {
         log.info("REST request to get Quiz: {}", id);
-        return ResponseEntity.ok(service.getById(id));
+        if (isAdmin(authentication)) {
+            return responseBodyCache.ok(request, service.getById(id));
+        }
+        return responseBodyCache.ok(request, attemptService.getPaper(id));
+    }
+
+    // The quiz to take, without correct answers
+    @GetMapping("/{id}/attempts")
+    public ResponseEntity<byte[]> getAttemptPaper(@PathVariable Long id, HttpServletRequest request) {
+        log.info("REST request to start an attempt at Quiz: {}", id);
+        return responseBodyCache.ok(request, attemptService.getPaper(id));
+    }
+
+    @PostMapping("/{id}/attempts")
+    public ResponseEntity<QuizAttemptResultDto> submitAttempt(@PathVariable Long id,
+            @Valid @RequestBody QuizSubmissionDto submission, Authentication authentication) {
+        log.info("REST request to submit an attempt at Quiz: {}", id);
+        return new ResponseEntity<>(attemptService.submit(id, authentication.getName(), submission),
+                HttpStatus.CREATED);
     }
 
     @GetMapping
-    public ResponseEntity<Page<QuizDto>> getAll(
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<Page<?>> getAll(
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication) {
         log.info("REST request to get all Quizzes");
-        return ResponseEntity.ok(service.getAll(pageable));
+        return ResponseEntity.ok(visibleTo(authentication, service.getAll(pageable)));
     }
 
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<Page<QuizDto>> getByJobId(
+    public ResponseEntity<Page<?>> getByJobId(
             @PathVariable Long jobId,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication) {
         log.info("REST request to get Quizzes for Job: {}", jobId);
-        return ResponseEntity.ok(service.getByJobId(jobId, pageable));
+        return ResponseEntity.ok(visibleTo(authentication, service.getByJobId(jobId, pageable)));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<QuizDto>> searchByTag(
+    public ResponseEntity<Page<?>> searchByTag(
             @RequestParam(required = false) String tag,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication) {
         log.info("REST request to search Quizzes by tag: {}", tag);
-        return ResponseEntity.ok(service.searchByTag(tag, pageable));
+        return ResponseEntity.ok(visibleTo(authentication, service.searchByTag(tag, pageable)));
+    }
+
+    private Page<?> visibleTo(Authentication authentication, Page<QuizDto> quizzes) {
+        return isAdmin(authentication) ? quizzes : quizzes.map(quizMapper::toPaper);
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
     }
 }
@@ -0,0 +1,41 @@
+package com.job.portal.controller;
+
+import com.job.portal.dto.TagDto;
+import com.job.portal.entity.Tag;
+import com.job.portal.service.TagCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+@Slf4j
+public class TagController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TagCatalog tagCatalog;
+
+    // Called on every keystroke, so not logged at info
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TagDto>> suggest(@RequestParam(required = false) String q,
+                                                @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to suggest Tags for: {}", q);
+        return ResponseEntity.ok(tagCatalog.suggest(q, clamp(limit)));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TagDto>> getPopular(@RequestParam(required = false) Tag.ContentType type,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        log.info("REST request to get popular Tags for type: {}", type);
+        return ResponseEntity.ok(tagCatalog.popular(type, clamp(limit)));
+    }
+
+    private static int clamp(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+}
@@ -1,14 +1,20 @@
 package com.job.portal.controller;
 
+import com.job.portal.cache.ResponseBodyCache;
+import com.job.portal.dto.BulkImportResultDto;
 import com.job.portal.dto.TopicDto;
+import com.job.portal.service.BulkImporter;
 import com.job.portal.service.TopicService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -18,6 +24,8 @@ import java.util.List;
 public class TopicController {
 
     private final TopicService service;
+    private final BulkImporter bulkImporter;
+    private final ResponseBodyCache responseBodyCache;
 
     @PostMapping
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
@@ -33,6 +41,15 @@ public class TopicController {
         return new ResponseEntity<>(service.createBatch(dtos), HttpStatus.CREATED);
     }
 
+    // Streams the array and saves it in chunks, answering with a summary instead of the saved items
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResultDto> importBatch(HttpServletRequest request) throws IOException {
+        log.info("REST request to import Topics");
+        return ResponseEntity.ok(bulkImporter.run("topics", request.getInputStream(), TopicDto.class,
+                service::createBatch, service::create));
+    }
+
     @PutMapping("/{id}")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<TopicDto> update(@PathVariable String id, @Valid @RequestBody TopicDto dto) {
@@ -49,14 +66,14 @@ public class TopicController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TopicDto> getById(@PathVariable String id) {
+    public ResponseEntity<byte[]> getById(@PathVariable String id, HttpServletRequest request) {
         log.info("REST request to get Topic: {}", id);
-        return ResponseEntity.ok(service.getById(id));
+        return responseBodyCache.ok(request, service.getById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<TopicDto>> getAll() {
+    public ResponseEntity<byte[]> getAll(HttpServletRequest request) {
         log.info("REST request to get all Topics");
-        return ResponseEntity.ok(service.getAll());
+        return responseBodyCache.ok(request, service.getAll());
     }
 }
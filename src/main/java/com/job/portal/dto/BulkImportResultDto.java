@@ -0,0 +1,33 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDto {
+    private String importId;
+    private String type;
+    private int received;
+    private int imported;
+    private int failed;
+    private int chunks;
+    // False while running, or when the body could not be read to the end
+    private boolean completed;
+    private long tookMillis;
+    private List<ItemError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+        // Zero-based position in the submitted array; -1 for the body as a whole
+        private int index;
+        private String message;
+    }
+}
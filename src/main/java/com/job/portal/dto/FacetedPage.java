@@ -0,0 +1,22 @@
+package com.job.portal.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A search page that also carries the facet counts of its criteria; serializes like any
+ * other page plus a {@code facets} property.
+ */
+public class FacetedPage<T> extends PageImpl<T> {
+
+    private final JobFacets facets;
+
+    public FacetedPage(Page<T> page, JobFacets facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    public JobFacets getFacets() {
+        return facets;
+    }
+}
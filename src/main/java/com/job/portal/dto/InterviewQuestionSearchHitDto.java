@@ -0,0 +1,16 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewQuestionSearchHitDto {
+    private InterviewQuestionDto question;
+    private double score;
+    // Matched words wrapped in <em>; null when the field has no match
+    private String questionHighlight;
+    private String answerHighlight;
+}
@@ -39,6 +39,13 @@ public class JobDTO {
     @NotBlank(message = "Salary is required")
     private String salary;
 
+    // Parsed from salary by the server; ignored on writes
+    private Long salaryMin;
+
+    private Long salaryMax;
+
+    private String currency;
+
     private String companyLogo; // You may add @URL validation if you expect this to be a URL
 
     @NotBlank(message = "Job type is required")
@@ -131,6 +138,30 @@ public class JobDTO {
         this.salary = salary;
     }
 
+    public Long getSalaryMin() {
+        return salaryMin;
+    }
+
+    public void setSalaryMin(Long salaryMin) {
+        this.salaryMin = salaryMin;
+    }
+
+    public Long getSalaryMax() {
+        return salaryMax;
+    }
+
+    public void setSalaryMax(Long salaryMax) {
+        this.salaryMax = salaryMax;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
     public String getCompanyLogo() {
         return companyLogo;
     }
@@ -159,6 +190,9 @@ public class JobDTO {
                 ", createdAt=" + createdAt +
                 ", applyLink='" + applyLink + '\'' +
                 ", salary='" + salary + '\'' +
+                ", salaryMin=" + salaryMin +
+                ", salaryMax=" + salaryMax +
+                ", currency='" + currency + '\'' +
                 ", companyLogo='" + companyLogo + '\'' +
                 ", jobType='" + jobType + '\'' +
                 '}';
@@ -0,0 +1,21 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Per-value job counts for the filterable columns, restricted to one set of search criteria.
+ * Each map is ordered by descending count and holds only the most frequent values.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobFacets {
+    private Map<String, Long> jobType;
+    private Map<String, Long> location;
+    private Map<String, Long> company;
+    private Map<String, Long> experience;
+}
@@ -1,14 +1,21 @@
 package com.job.portal.dto;
 
+import org.springframework.format.annotation.DateTimeFormat;
+
 import java.time.LocalDate;
+import java.util.Objects;
 
 public class JobSearchCriteria {
     private String keyword;
     private String location;
     private String jobType;
     private String company;
-    private String minSalary;
+    private Long minSalary;
+    private Long maxSalary;
+    private String currency;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate postedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate postedTo;
 
     public String getKeyword() {
@@ -43,14 +50,40 @@ public class JobSearchCriteria {
         this.company = company;
     }
 
-    public String getMinSalary() {
+    public Long getMinSalary() {
         return minSalary;
     }
 
-    public void setMinSalary(String minSalary) {
+    public void setMinSalary(Long minSalary) {
         this.minSalary = minSalary;
     }
 
+    public Long getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Long maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    /**
+     * Compares salary bounds given without a currency in {@code defaultCurrency}, since amounts
+     * are only comparable within one currency.
+     */
+    public void applyDefaultCurrency(String defaultCurrency) {
+        if ((currency == null || currency.isBlank()) && (minSalary != null || maxSalary != null)) {
+            currency = defaultCurrency;
+        }
+    }
+
     public LocalDate getPostedFrom() {
         return postedFrom;
     }
@@ -67,6 +100,30 @@ public class JobSearchCriteria {
         this.postedTo = postedTo;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JobSearchCriteria that)) {
+            return false;
+        }
+        return Objects.equals(keyword, that.keyword)
+                && Objects.equals(location, that.location)
+                && Objects.equals(jobType, that.jobType)
+                && Objects.equals(company, that.company)
+                && Objects.equals(minSalary, that.minSalary)
+                && Objects.equals(maxSalary, that.maxSalary)
+                && Objects.equals(currency, that.currency)
+                && Objects.equals(postedFrom, that.postedFrom)
+                && Objects.equals(postedTo, that.postedTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keyword, location, jobType, company, minSalary, maxSalary, currency, postedFrom, postedTo);
+    }
+
     @Override
     public String toString() {
         return "JobSearchCriteria{" +
@@ -74,7 +131,9 @@ public class JobSearchCriteria {
                 ", location='" + location + '\'' +
                 ", jobType='" + jobType + '\'' +
                 ", company='" + company + '\'' +
-                ", minSalary='" + minSalary + '\'' +
+                ", minSalary=" + minSalary +
+                ", maxSalary=" + maxSalary +
+                ", currency='" + currency + '\'' +
                 ", postedFrom=" + postedFrom +
                 ", postedTo=" + postedTo +
                 '}';
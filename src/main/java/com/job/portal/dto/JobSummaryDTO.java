@@ -0,0 +1,31 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a job list card shows. Selected directly by constructor queries so list endpoints never
+ * read the {@code jobDetails} text; the full {@link JobDTO} is only served by {@code /api/jobs/{id}}.
+ * Constructor argument order is part of the queries in {@code JobRepository}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobSummaryDTO {
+    private Long id;
+    private String jobTitle;
+    private String company;
+    private String location;
+    private String jobType;
+    private String experience;
+    private String experienceRequired;
+    private String salary;
+    private Long salaryMin;
+    private Long salaryMax;
+    private String currency;
+    private String companyLogo;
+    private LocalDateTime createdAt;
+}
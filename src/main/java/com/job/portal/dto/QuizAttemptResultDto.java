@@ -0,0 +1,19 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizAttemptResultDto {
+    private Long quizId;
+    private int score;
+    private int totalQuestions;
+    private List<QuizQuestionResultDto> questions;
+    private LocalDateTime submittedAt;
+}
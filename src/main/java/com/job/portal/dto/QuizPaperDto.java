@@ -0,0 +1,20 @@
+package com.job.portal.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A quiz as served to anyone but an admin, including someone taking it: the questions without
+ * their answers.
+ */
+@Data
+public class QuizPaperDto {
+    private Long id;
+    private String title;
+    private Integer duration;
+    private Integer totalQuestions;
+    private List<String> tags;
+    private Long jobId;
+    private List<QuizPaperQuestionDto> questions;
+}
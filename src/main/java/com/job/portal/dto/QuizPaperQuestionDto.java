@@ -0,0 +1,14 @@
+package com.job.portal.dto;
+
+import com.job.portal.entity.QuizQuestion;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class QuizPaperQuestionDto {
+    private Long id;
+    private String question;
+    private List<String> options;
+    private QuizQuestion.Difficulty difficulty;
+}
@@ -0,0 +1,15 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizQuestionResultDto {
+    private Long questionId;
+    private String answer;
+    private boolean correct;
+    private String correctAnswer;
+}
@@ -0,0 +1,15 @@
+package com.job.portal.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class QuizSubmissionDto {
+    // Answer per question id: the option text or its zero-based index; unanswered questions may be left out.
+    // Options and stored answers are both varchar(255), so a longer answer can never match and could not be saved
+    @NotNull
+    private Map<Long, @Size(max = 255, message = "Answer must be at most 255 characters") String> answers;
+}
@@ -0,0 +1,22 @@
+package com.job.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Offset page without an exact total. {@code approximateTotal} is only set when requested and
+ * a cached estimate is available.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+}
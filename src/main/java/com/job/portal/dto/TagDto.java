@@ -0,0 +1,19 @@
+package com.job.portal.dto;
+
+import com.job.portal.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagDto {
+    private Long id;
+    private String name;
+    private String displayName;
+    private Map<Tag.ContentType, Integer> counts;
+    private int total;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
@@ -30,7 +31,9 @@ public class InterviewQuestion extends BaseEntity {
     @Column(nullable = false)
     private Difficulty difficulty;
 
+    // Practice sets load their cache misses in one findAllById
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "interview_question_tags", joinColumns = @JoinColumn(name = "question_id"))
     @Column(name = "tag")
     private List<String> tags;
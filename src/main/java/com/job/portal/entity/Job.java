@@ -1,11 +1,20 @@
 package com.job.portal.entity;
 
+import com.job.portal.util.SalaryParser;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_job_salary_min", columnList = "salary_min"),
+        @Index(name = "idx_job_salary_max", columnList = "salary_max"),
+        @Index(name = "idx_job_posted_at", columnList = "posted_at DESC, id DESC"),
+        @Index(name = "idx_job_experience_posted_at", columnList = "experience, posted_at DESC"),
+        @Index(name = "idx_job_type_posted_at", columnList = "job_type, posted_at DESC")
+})
 public class Job {
 
     @Id
@@ -26,8 +35,26 @@ public class Job {
     @Column(name = "created_time")
     private LocalTime createdTime; // Store only the time part
 
+    // createdDate + createdTime as one indexed column; this is what "latest" queries order by.
+    // Every write fills it and JobBackfillService fills rows stored before it existed, so those
+    // queries and the keyset seek treat it as never null. Left nullable in the mapping because
+    // ddl-auto=update would add it as NOT NULL to populated tables, which the database rejects
+    @Column(name = "posted_at")
+    private LocalDateTime postedAt;
+
     private String applyLink;
     private String salary;
+
+    // Parsed from salary on every write so salary filters can use a numeric range index
+    @Column(name = "salary_min")
+    private Long salaryMin;
+
+    @Column(name = "salary_max")
+    private Long salaryMax;
+
+    @Column(length = 3)
+    private String currency;
+
     private String companyLogo;
     private String jobType;
 
@@ -35,6 +62,7 @@ public class Job {
     public Job() {
         this.createdDate = LocalDate.now(); // Set current date
         this.createdTime = LocalTime.now(); // Set current time
+        syncPostedAt();
     }
 
     // Getters and Setters
@@ -100,6 +128,7 @@ public class Job {
 
     public void setCreatedDate(LocalDate createdDate) {
         this.createdDate = createdDate;
+        syncPostedAt();
     }
 
     public LocalTime getCreatedTime() {
@@ -108,6 +137,25 @@ public class Job {
 
     public void setCreatedTime(LocalTime createdTime) {
         this.createdTime = createdTime;
+        syncPostedAt();
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void syncPostedAt() {
+        this.postedAt = createdDate != null
+                ? LocalDateTime.of(createdDate, createdTime != null ? createdTime : LocalTime.MIDNIGHT)
+                : null;
+    }
+
+    // A job saved without a date is dated today, the constructor's default
+    public void fillPostedAt() {
+        if (createdDate == null) {
+            createdDate = LocalDate.now();
+        }
+        syncPostedAt();
     }
 
     public String getApplyLink() {
@@ -124,6 +172,45 @@ public class Job {
 
     public void setSalary(String salary) {
         this.salary = salary;
+        refreshSalaryRange();
+    }
+
+    public Long getSalaryMin() {
+        return salaryMin;
+    }
+
+    public void setSalaryMin(Long salaryMin) {
+        this.salaryMin = salaryMin;
+    }
+
+    public Long getSalaryMax() {
+        return salaryMax;
+    }
+
+    public void setSalaryMax(Long salaryMax) {
+        this.salaryMax = salaryMax;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        refreshSalaryRange();
+        fillPostedAt();
+    }
+
+    public void refreshSalaryRange() {
+        SalaryParser.SalaryRange range = SalaryParser.parse(salary);
+        this.salaryMin = range != null ? range.min() : null;
+        this.salaryMax = range != null ? range.max() : null;
+        this.currency = range != null ? range.currency() : null;
     }
 
     public String getCompanyLogo() {
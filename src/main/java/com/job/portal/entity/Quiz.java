@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,7 +30,9 @@ public class Quiz extends BaseEntity {
 
     private Integer totalQuestions;
 
+    // Tags and questions of a page of quizzes are initialized together, one query per collection
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "quiz_tags", joinColumns = @JoinColumn(name = "quiz_id"))
     @Column(name = "tag")
     private List<String> tags;
@@ -37,6 +40,7 @@ public class Quiz extends BaseEntity {
     private Long jobId;
 
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @ToString.Exclude
     private List<QuizQuestion> questions = new ArrayList<>();
 
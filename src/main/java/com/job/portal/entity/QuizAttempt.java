@@ -0,0 +1,48 @@
+package com.job.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "quiz_attempts", indexes = {
+        @Index(name = "idx_quiz_attempt_quiz_user", columnList = "quiz_id, user_email")
+})
+public class QuizAttempt {
+
+    // Sequence ids let the write-behind queue insert attempts in JDBC batches; identity ids cannot be batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_attempt_seq")
+    @SequenceGenerator(name = "quiz_attempt_seq", sequenceName = "quiz_attempt_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(name = "total_questions", nullable = false)
+    private int totalQuestions;
+
+    // Submitted answer per question id
+    @ElementCollection
+    @CollectionTable(name = "quiz_attempt_answers", joinColumns = @JoinColumn(name = "attempt_id"))
+    @MapKeyColumn(name = "question_id")
+    @Column(name = "answer")
+    private Map<Long, String> answers = new HashMap<>();
+
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
@@ -23,7 +24,9 @@ public class QuizQuestion extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String question;
 
+    // Sized for a full page of quizzes' questions at once
     @ElementCollection
+    @BatchSize(size = 500)
     @CollectionTable(name = "quiz_question_options", joinColumns = @JoinColumn(name = "question_id"))
     @Column(name = "option_value")
     private List<String> options;
@@ -0,0 +1,36 @@
+package com.job.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * A normalized tag shared by every tagged content type. Content rows still store their tags as
+ * strings; this table gives each distinct normalized tag a stable id.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tags", uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
+public class Tag extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Trimmed, lower-cased and with single spaces; as long as the content tag columns allow
+    @Column(nullable = false)
+    private String name;
+
+    // The spelling the tag was first used with
+    @Column(nullable = false)
+    private String displayName;
+
+    public enum ContentType {
+        QUIZ, INTERVIEW_QUESTION, LEARNING_RESOURCE
+    }
+}
@@ -1,6 +1,6 @@
 package com.job.portal.exception;
 
-public class JobNotFoundException extends RuntimeException {
+public class JobNotFoundException extends NotFoundException {
     public JobNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,12 @@
+package com.job.portal.exception;
+
+/**
+ * Base of the 404 exceptions. They are expected on dead links and crawler traffic, so they skip
+ * the stack trace, and caches may remember them for a short while instead of querying again.
+ */
+public abstract class NotFoundException extends RuntimeException {
+
+    protected NotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
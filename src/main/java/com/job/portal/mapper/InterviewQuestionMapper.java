@@ -0,0 +1,31 @@
+package com.job.portal.mapper;
+
+import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.entity.InterviewQuestion;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InterviewQuestionMapper {
+
+    public InterviewQuestionDto toDto(InterviewQuestion entity) {
+        InterviewQuestionDto dto = new InterviewQuestionDto();
+        dto.setId(entity.getId());
+        dto.setQuestion(entity.getQuestion());
+        dto.setAnswer(entity.getAnswer());
+        dto.setDifficulty(entity.getDifficulty());
+        dto.setTags(Lists.copyOf(entity.getTags()));
+        dto.setJobId(entity.getJobId());
+        return dto;
+    }
+
+    public InterviewQuestion toEntity(InterviewQuestionDto dto) {
+        InterviewQuestion entity = new InterviewQuestion();
+        entity.setId(dto.getId());
+        entity.setQuestion(dto.getQuestion());
+        entity.setAnswer(dto.getAnswer());
+        entity.setDifficulty(dto.getDifficulty());
+        entity.setTags(Lists.copyOf(dto.getTags()));
+        entity.setJobId(dto.getJobId());
+        return entity;
+    }
+}
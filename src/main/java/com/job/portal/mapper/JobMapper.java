@@ -0,0 +1,75 @@
+package com.job.portal.mapper;
+
+import com.job.portal.dto.JobDTO;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain getter/setter mapping between {@link Job} and its DTOs. The DTO's {@code createdAt} is
+ * the job's posting timestamp; on writes it is split back into the created date and time.
+ */
+@Component
+public class JobMapper {
+
+    public JobDTO toDto(Job job) {
+        JobDTO dto = new JobDTO();
+        dto.setId(job.getId());
+        dto.setJobTitle(job.getJobTitle());
+        dto.setCompany(job.getCompany());
+        dto.setLocation(job.getLocation());
+        dto.setJobDetails(job.getJobDetails());
+        dto.setExperienceRequired(job.getExperienceRequired());
+        dto.setExperience(job.getExperience());
+        dto.setCreatedAt(job.getPostedAt());
+        dto.setApplyLink(job.getApplyLink());
+        dto.setSalary(job.getSalary());
+        dto.setSalaryMin(job.getSalaryMin());
+        dto.setSalaryMax(job.getSalaryMax());
+        dto.setCurrency(job.getCurrency());
+        dto.setCompanyLogo(job.getCompanyLogo());
+        dto.setJobType(job.getJobType());
+        return dto;
+    }
+
+    public List<JobDTO> toDtoList(List<Job> jobs) {
+        List<JobDTO> dtos = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            dtos.add(toDto(job));
+        }
+        return dtos;
+    }
+
+    // Same columns as JobRepository.SUMMARY_SELECT, for jobs already loaded by a write
+    public JobSummaryDTO toSummary(Job job) {
+        return new JobSummaryDTO(job.getId(), job.getJobTitle(), job.getCompany(), job.getLocation(),
+                job.getJobType(), job.getExperience(), job.getExperienceRequired(), job.getSalary(),
+                job.getSalaryMin(), job.getSalaryMax(), job.getCurrency(), job.getCompanyLogo(), job.getPostedAt());
+    }
+
+    /**
+     * The parsed salary columns are not copied: the entity derives them from {@code salary}.
+     */
+    public Job toEntity(JobDTO dto) {
+        Job job = new Job();
+        job.setId(dto.getId());
+        job.setJobTitle(dto.getJobTitle());
+        job.setCompany(dto.getCompany());
+        job.setLocation(dto.getLocation());
+        job.setJobDetails(dto.getJobDetails());
+        job.setExperienceRequired(dto.getExperienceRequired());
+        job.setExperience(dto.getExperience());
+        LocalDateTime createdAt = dto.getCreatedAt();
+        job.setCreatedDate(createdAt != null ? createdAt.toLocalDate() : null);
+        job.setCreatedTime(createdAt != null ? createdAt.toLocalTime() : null);
+        job.setApplyLink(dto.getApplyLink());
+        job.setSalary(dto.getSalary());
+        job.setCompanyLogo(dto.getCompanyLogo());
+        job.setJobType(dto.getJobType());
+        return job;
+    }
+}
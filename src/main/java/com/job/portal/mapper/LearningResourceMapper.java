@@ -0,0 +1,33 @@
+package com.job.portal.mapper;
+
+import com.job.portal.dto.LearningResourceDto;
+import com.job.portal.entity.LearningResource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LearningResourceMapper {
+
+    public LearningResourceDto toDto(LearningResource entity) {
+        LearningResourceDto dto = new LearningResourceDto();
+        dto.setId(entity.getId());
+        dto.setTitle(entity.getTitle());
+        dto.setUrl(entity.getUrl());
+        dto.setType(entity.getType());
+        dto.setDescription(entity.getDescription());
+        dto.setTags(Lists.copyOf(entity.getTags()));
+        dto.setJobId(entity.getJobId());
+        return dto;
+    }
+
+    public LearningResource toEntity(LearningResourceDto dto) {
+        LearningResource entity = new LearningResource();
+        entity.setId(dto.getId());
+        entity.setTitle(dto.getTitle());
+        entity.setUrl(dto.getUrl());
+        entity.setType(dto.getType());
+        entity.setDescription(dto.getDescription());
+        entity.setTags(Lists.copyOf(dto.getTags()));
+        entity.setJobId(dto.getJobId());
+        return entity;
+    }
+}
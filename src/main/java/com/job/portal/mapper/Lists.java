@@ -0,0 +1,15 @@
+package com.job.portal.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Lists {
+
+    private Lists() {
+    }
+
+    // Mutable copy, since JPA replaces or appends to element collections in place
+    static <T> List<T> copyOf(List<T> source) {
+        return source == null ? null : new ArrayList<>(source);
+    }
+}
@@ -0,0 +1,103 @@
+package com.job.portal.mapper;
+
+import com.job.portal.dto.QuizDto;
+import com.job.portal.dto.QuizPaperDto;
+import com.job.portal.dto.QuizPaperQuestionDto;
+import com.job.portal.dto.QuizQuestionDto;
+import com.job.portal.entity.Quiz;
+import com.job.portal.entity.QuizQuestion;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps quizzes together with their questions. Collections are copied so DTOs never hold
+ * Hibernate-managed lists.
+ */
+@Component
+public class QuizMapper {
+
+    public QuizDto toDto(Quiz quiz) {
+        QuizDto dto = new QuizDto();
+        dto.setId(quiz.getId());
+        dto.setTitle(quiz.getTitle());
+        dto.setDuration(quiz.getDuration());
+        dto.setTotalQuestions(quiz.getTotalQuestions());
+        dto.setTags(Lists.copyOf(quiz.getTags()));
+        dto.setJobId(quiz.getJobId());
+        if (quiz.getQuestions() != null) {
+            List<QuizQuestionDto> questions = new ArrayList<>(quiz.getQuestions().size());
+            for (QuizQuestion question : quiz.getQuestions()) {
+                questions.add(toDto(question));
+            }
+            dto.setQuestions(questions);
+        }
+        return dto;
+    }
+
+    public QuizQuestionDto toDto(QuizQuestion question) {
+        QuizQuestionDto dto = new QuizQuestionDto();
+        dto.setId(question.getId());
+        dto.setQuestion(question.getQuestion());
+        dto.setOptions(Lists.copyOf(question.getOptions()));
+        dto.setCorrectAnswer(question.getCorrectAnswer());
+        dto.setDifficulty(question.getDifficulty());
+        return dto;
+    }
+
+    /**
+     * The quiz without its correct answers, for everyone but admins.
+     */
+    public QuizPaperDto toPaper(QuizDto quiz) {
+        QuizPaperDto paper = new QuizPaperDto();
+        paper.setId(quiz.getId());
+        paper.setTitle(quiz.getTitle());
+        paper.setDuration(quiz.getDuration());
+        paper.setTotalQuestions(quiz.getTotalQuestions());
+        paper.setTags(quiz.getTags());
+        paper.setJobId(quiz.getJobId());
+        List<QuizPaperQuestionDto> questions = new ArrayList<>();
+        if (quiz.getQuestions() != null) {
+            for (QuizQuestionDto question : quiz.getQuestions()) {
+                QuizPaperQuestionDto paperQuestion = new QuizPaperQuestionDto();
+                paperQuestion.setId(question.getId());
+                paperQuestion.setQuestion(question.getQuestion());
+                paperQuestion.setOptions(question.getOptions());
+                paperQuestion.setDifficulty(question.getDifficulty());
+                questions.add(paperQuestion);
+            }
+        }
+        paper.setQuestions(questions);
+        return paper;
+    }
+
+    /**
+     * Builds a new quiz with its questions attached to it.
+     */
+    public Quiz toEntity(QuizDto dto) {
+        Quiz quiz = new Quiz();
+        quiz.setId(dto.getId());
+        quiz.setTitle(dto.getTitle());
+        quiz.setDuration(dto.getDuration());
+        quiz.setTotalQuestions(dto.getTotalQuestions());
+        quiz.setTags(Lists.copyOf(dto.getTags()));
+        quiz.setJobId(dto.getJobId());
+        if (dto.getQuestions() != null) {
+            for (QuizQuestionDto question : dto.getQuestions()) {
+                quiz.addQuestion(toEntity(question));
+            }
+        }
+        return quiz;
+    }
+
+    public QuizQuestion toEntity(QuizQuestionDto dto) {
+        QuizQuestion question = new QuizQuestion();
+        question.setId(dto.getId());
+        question.setQuestion(dto.getQuestion());
+        question.setOptions(Lists.copyOf(dto.getOptions()));
+        question.setCorrectAnswer(dto.getCorrectAnswer());
+        question.setDifficulty(dto.getDifficulty());
+        return question;
+    }
+}
@@ -0,0 +1,25 @@
+package com.job.portal.mapper;
+
+import com.job.portal.dto.TopicDto;
+import com.job.portal.entity.Topic;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TopicMapper {
+
+    public TopicDto toDto(Topic entity) {
+        TopicDto dto = new TopicDto();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setIcon(entity.getIcon());
+        return dto;
+    }
+
+    public Topic toEntity(TopicDto dto) {
+        Topic entity = new Topic();
+        entity.setId(dto.getId());
+        entity.setName(dto.getName());
+        entity.setIcon(dto.getIcon());
+        return entity;
+    }
+}
@@ -0,0 +1,67 @@
+package com.job.portal.pagination;
+
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page in newest-first order. Encoded as an opaque
+ * URL-safe token so clients only pass it back as {@code cursor}.
+ */
+public record JobCursor(LocalDateTime postedAt, Long id) {
+
+    public static final Sort ORDER = Sort.by(Sort.Order.desc("postedAt"), Sort.Order.desc("id"));
+
+    private static final String SEPARATOR = "|";
+
+    public static JobCursor of(Job job) {
+        return new JobCursor(job.getPostedAt(), job.getId());
+    }
+
+    public static JobCursor of(JobSummaryDTO job) {
+        return new JobCursor(job.getCreatedAt(), job.getId());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A null or blank token means "first page"
+     * and decodes to null.
+     */
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new InvalidCursorException(token);
+            }
+            return new JobCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = postedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * True if a row with the given key comes after this cursor in {@link #ORDER}, the same rows
+     * {@code JobSpecifications.seekAfter} matches.
+     */
+    public boolean isFollowedBy(LocalDateTime rowPostedAt, Long rowId) {
+        if (rowPostedAt == null || rowId == null) {
+            return false;
+        }
+        int byPostedAt = rowPostedAt.compareTo(postedAt);
+        return byPostedAt != 0 ? byPostedAt < 0 : rowId < id;
+    }
+}
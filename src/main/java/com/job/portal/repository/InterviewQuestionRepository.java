@@ -4,12 +4,17 @@ import com.job.portal.entity.InterviewQuestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long> {
+public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long>,
+        JpaSpecificationExecutor<InterviewQuestion> {
     Page<InterviewQuestion> findByDifficulty(InterviewQuestion.Difficulty difficulty, Pageable pageable);
 
     Page<InterviewQuestion> findByJobId(Long jobId, Pageable pageable);
@@ -18,4 +23,37 @@ public interface InterviewQuestionRepository extends JpaRepository<InterviewQues
 
     Page<InterviewQuestion> findByTagsContainingAndDifficulty(String tag, InterviewQuestion.Difficulty difficulty,
             Pageable pageable);
+
+    interface PoolEntryProjection {
+        Long getId();
+
+        InterviewQuestion.Difficulty getDifficulty();
+
+        String getTag();
+    }
+
+    // One row per question and tag (tag null when untagged), for the in-memory practice pools
+    @Query("SELECT q.id as id, q.difficulty as difficulty, t as tag FROM InterviewQuestion q LEFT JOIN q.tags t")
+    List<PoolEntryProjection> findPoolEntries();
+
+    @Query("SELECT q.id as id, t as tag FROM InterviewQuestion q JOIN q.tags t")
+    List<TagEntryProjection> findTagEntries();
+
+    @Query("SELECT q.id as id, t as tag FROM InterviewQuestion q JOIN q.tags t WHERE q.id IN :ids")
+    List<TagEntryProjection> findTagEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface IndexEntryProjection {
+        Long getId();
+
+        String getQuestion();
+
+        String getAnswer();
+
+        InterviewQuestion.Difficulty getDifficulty();
+    }
+
+    // Text columns of the questions after afterId in id order, for building the search index in batches
+    @Query("SELECT q.id as id, q.question as question, q.answer as answer, q.difficulty as difficulty "
+            + "FROM InterviewQuestion q WHERE q.id > :afterId ORDER BY q.id")
+    List<IndexEntryProjection> findIndexEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,25 +1,43 @@
 package com.job.portal.repository;
 
+import com.job.portal.dto.JobSummaryDTO;
 import com.job.portal.entity.Job;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobRepositoryCustom {
+
+    // List endpoints select only the card columns; argument order matches JobSummaryDTO
+    String SUMMARY_SELECT = "SELECT new com.job.portal.dto.JobSummaryDTO(j.id, j.jobTitle, j.company, j.location, "
+            + "j.jobType, j.experience, j.experienceRequired, j.salary, j.salaryMin, j.salaryMax, j.currency, "
+            + "j.companyLogo, j.postedAt) FROM Job j";
 
     long count();
 
-    List<Job> findByExperienceOrderByCreatedDateDescCreatedTimeDesc(String experience);
+    List<Job> findByJobTypeOrderByPostedAtDesc(String jobType);
+
+    @Query(SUMMARY_SELECT + " WHERE j.experience = :experience ORDER BY j.postedAt DESC, j.id DESC")
+    List<JobSummaryDTO> findSummariesByExperience(@Param("experience") String experience);
 
-    List<Job> findByJobTypeOrderByCreatedDateDescCreatedTimeDesc(String jobType);
+    @Query(SUMMARY_SELECT + " WHERE LOWER(j.company) = LOWER(:company) ORDER BY j.postedAt DESC, j.id DESC")
+    List<JobSummaryDTO> findSummariesByCompany(@Param("company") String company);
 
-    @Query("SELECT j FROM Job j ORDER BY j.createdDate DESC, j.createdTime DESC")
-    List<Job> findAllByOrderByCreatedDateAndCreatedTimeDesc();
+    @Query(SUMMARY_SELECT + " WHERE j.id IN :ids")
+    List<JobSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Slice rather than Page: bounded listings never need the total, so no count query is issued
+    @Query(SUMMARY_SELECT)
+    Slice<JobSummaryDTO> findAllSummaries(Pageable pageable);
 
     // Changed to List to handle duplicate job titles
     List<Job> findByJobTitle(String jobTitle);
@@ -27,7 +45,10 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     // New method: Find by both title and ID for uniqueness
     Optional<Job> findByJobTitleAndId(String jobTitle, Long id);
 
-    List<Job> findByCompanyIgnoreCase(String company);
+    // Rows written before the parsed salary columns existed, in id order for batched backfill
+    List<Job> findTop500BySalaryIsNotNullAndSalaryMinIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+
+    List<Job> findTop500ByPostedAtIsNullAndIdGreaterThanOrderByIdAsc(Long id);
 
     interface JobTypeCountProjection {
         String getJobType();
@@ -0,0 +1,36 @@
+package com.job.portal.repository;
+
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification queries that select {@link JobSummaryDTO} columns instead of whole entities,
+ * which {@code JpaSpecificationExecutor} cannot do.
+ */
+public interface JobRepositoryCustom {
+
+    Page<JobSummaryDTO> findSummaries(Specification<Job> specification, Pageable pageable);
+
+    /**
+     * Reads one page plus a single look-ahead row to decide {@link Slice#hasNext()}, without the
+     * COUNT query {@link #findSummaries(Specification, Pageable)} issues.
+     */
+    Slice<JobSummaryDTO> findSummarySlice(Specification<Job> specification, Pageable pageable);
+
+    List<JobSummaryDTO> findSummaries(Specification<Job> specification, Sort sort, int limit);
+
+    /**
+     * Job counts grouped by every facet column at once, so all facets come from one query.
+     */
+    List<FacetRow> findFacetRows(Specification<Job> specification);
+
+    record FacetRow(String jobType, String location, String company, String experience, Long count) {
+    }
+}
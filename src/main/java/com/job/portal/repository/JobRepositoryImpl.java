@@ -0,0 +1,118 @@
+package com.job.portal.repository;
+
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<JobSummaryDTO> findSummaries(Specification<Job> specification, Pageable pageable) {
+        List<JobSummaryDTO> content = select(specification, pageable.getSort(), (int) pageable.getOffset(),
+                pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<JobSummaryDTO> findSummarySlice(Specification<Job> specification, Pageable pageable) {
+        List<JobSummaryDTO> rows = select(specification, pageable.getSort(), (int) pageable.getOffset(),
+                pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<JobSummaryDTO> findSummaries(Specification<Job> specification, Sort sort, int limit) {
+        return select(specification, sort, 0, limit);
+    }
+
+    @Override
+    public List<FacetRow> findFacetRows(Specification<Job> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FacetRow> query = cb.createQuery(FacetRow.class);
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(FacetRow.class, root.get("jobType"), root.get("location"), root.get("company"),
+                        root.get("experience"), cb.count(root)))
+                .groupBy(root.get("jobType"), root.get("location"), root.get("company"), root.get("experience"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<JobSummaryDTO> select(Specification<Job> specification, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobSummaryDTO> query = cb.createQuery(JobSummaryDTO.class);
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // Same argument order as JobRepository.SUMMARY_SELECT
+        query.select(cb.construct(JobSummaryDTO.class,
+                        root.get("id"), root.get("jobTitle"), root.get("company"), root.get("location"),
+                        root.get("jobType"), root.get("experience"), root.get("experienceRequired"),
+                        root.get("salary"), root.get("salaryMin"), root.get("salaryMax"), root.get("currency"),
+                        root.get("companyLogo"), root.get("postedAt")))
+                .orderBy(toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * {@link QueryUtils#toOrders} plus null precedence, which Hibernate does not accept on Criteria
+     * orders; it becomes a leading {@code CASE WHEN x IS NULL} key instead. Only orders that ask
+     * for it get the key, so the default postedAt order stays servable by its index.
+     */
+    private static List<Order> toOrders(Sort sort, Root<Job> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                Expression<Integer> nullsKey = cb.<Integer>selectCase()
+                        .when(cb.isNull(root.get(order.getProperty())), 1)
+                        .otherwise(0);
+                orders.add(order.getNullHandling() == Sort.NullHandling.NULLS_LAST
+                        ? cb.asc(nullsKey) : cb.desc(nullsKey));
+            }
+            orders.addAll(QueryUtils.toOrders(Sort.by(order.with(Sort.NullHandling.NATIVE)), root, cb));
+        }
+        return orders;
+    }
+
+    private long count(Specification<Job> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
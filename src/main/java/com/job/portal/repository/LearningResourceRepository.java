@@ -4,8 +4,11 @@ import com.job.portal.entity.LearningResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface LearningResourceRepository extends JpaRepository<LearningResource, Long> {
     Page<LearningResource> findByType(LearningResource.ResourceType type, Pageable pageable);
@@ -13,4 +16,7 @@ public interface LearningResourceRepository extends JpaRepository<LearningResour
     Page<LearningResource> findByJobId(Long jobId, Pageable pageable);
 
     Page<LearningResource> findByTagsContaining(String tag, Pageable pageable);
+
+    @Query("SELECT r.id as id, t as tag FROM LearningResource r JOIN r.tags t")
+    List<TagEntryProjection> findTagEntries();
 }
@@ -0,0 +1,9 @@
+package com.job.portal.repository;
+
+import com.job.portal.entity.QuizAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long> {
+}
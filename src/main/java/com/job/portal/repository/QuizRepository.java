@@ -4,11 +4,17 @@ import com.job.portal.entity.Quiz;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
     Page<Quiz> findByJobId(Long jobId, Pageable pageable);
 
     Page<Quiz> findByTagsContaining(String tag, Pageable pageable);
+
+    @Query("SELECT q.id as id, t as tag FROM Quiz q JOIN q.tags t")
+    List<TagEntryProjection> findTagEntries();
 }
@@ -0,0 +1,10 @@
+package com.job.portal.repository;
+
+/**
+ * One row per tagged content row and tag, for loading the tag catalog.
+ */
+public interface TagEntryProjection {
+    Long getId();
+
+    String getTag();
+}
@@ -0,0 +1,48 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.JobFacets;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Accumulates counts for all four job facets in a single pass over matching jobs (or grouped
+ * rows), then keeps the most frequent values of each.
+ */
+public class FacetCounter {
+
+    public static final int MAX_VALUES = 20;
+
+    private final Map<String, Long> jobType = new HashMap<>();
+    private final Map<String, Long> location = new HashMap<>();
+    private final Map<String, Long> company = new HashMap<>();
+    private final Map<String, Long> experience = new HashMap<>();
+
+    public void add(String jobTypeValue, String locationValue, String companyValue, String experienceValue,
+                    long count) {
+        increment(jobType, jobTypeValue, count);
+        increment(location, locationValue, count);
+        increment(company, companyValue, count);
+        increment(experience, experienceValue, count);
+    }
+
+    public JobFacets toFacets() {
+        return new JobFacets(top(jobType), top(location), top(company), top(experience));
+    }
+
+    private static void increment(Map<String, Long> counts, String value, long count) {
+        if (value != null && !value.isBlank()) {
+            counts.merge(value, count, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> top(Map<String, Long> counts) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_VALUES)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+}
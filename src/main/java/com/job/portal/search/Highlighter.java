@@ -0,0 +1,89 @@
+package com.job.portal.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Marks query terms in a text with {@code <em>} tags, cutting long texts to the window around the
+ * first match. Words are matched the way {@link InvertedIndex} matches them: case-insensitively
+ * and by prefix. The rest of the text is HTML-escaped so the snippet can be rendered as is.
+ */
+public final class Highlighter {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}+#]+");
+    private static final int CONTEXT_BEFORE = 40;
+    private static final String ELLIPSIS = "…";
+
+    private Highlighter() {
+    }
+
+    /**
+     * The highlighted text, at most about {@code maxLength} characters of it, or null if no
+     * term occurs in it.
+     */
+    public static String highlight(String text, Collection<String> terms, int maxLength) {
+        if (text == null || text.isEmpty() || terms.isEmpty()) {
+            return null;
+        }
+        Matcher words = WORD.matcher(text);
+        int firstMatch = -1;
+        while (words.find()) {
+            if (matches(words.group(), terms)) {
+                firstMatch = words.start();
+                break;
+            }
+        }
+        if (firstMatch < 0) {
+            return null;
+        }
+
+        int start = 0;
+        int end = text.length();
+        if (text.length() > maxLength) {
+            start = Math.max(0, Math.min(firstMatch - CONTEXT_BEFORE, text.length() - maxLength));
+            end = Math.min(text.length(), start + maxLength);
+            // Do not cut words in half
+            while (start > 0 && Character.isLetterOrDigit(text.charAt(start - 1)) && start < firstMatch) {
+                start++;
+            }
+            while (end < text.length() && end > firstMatch && Character.isLetterOrDigit(text.charAt(end))) {
+                end--;
+            }
+        }
+
+        StringBuilder snippet = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        int position = start;
+        words.reset(text).region(start, end);
+        while (words.find()) {
+            if (matches(words.group(), terms)) {
+                snippet.append(HtmlUtils.htmlEscape(text.substring(position, words.start())))
+                        .append("<em>")
+                        .append(HtmlUtils.htmlEscape(words.group()))
+                        .append("</em>");
+                position = words.end();
+            }
+        }
+        snippet.append(HtmlUtils.htmlEscape(text.substring(position, end)));
+        if (end < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString();
+    }
+
+    private static boolean matches(String word, Collection<String> terms) {
+        String lower = word.toLowerCase(Locale.ROOT);
+        for (String term : terms) {
+            if (lower.startsWith(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
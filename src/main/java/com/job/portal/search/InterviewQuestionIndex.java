@@ -0,0 +1,192 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.repository.InterviewQuestionRepository;
+import com.job.portal.repository.TagEntryProjection;
+import com.job.portal.specification.InterviewQuestionSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text index over interview question and answer bodies, so keyword searches are answered
+ * from memory instead of with LIKE scans over the TEXT columns. Matches are ranked by BM25F
+ * score with the question weighted above the answer, then newest first; tag and difficulty
+ * filters run against a small in-memory copy of those columns.
+ * <p>
+ * Built at startup and then maintained by the interview question write paths, which apply
+ * their changes after commit. A rebuild fills a new index and swaps it in, so searches keep
+ * using the previous one meanwhile; until the first build finishes, searches fall back to a
+ * LIKE query.
+ */
+@Component
+@Slf4j
+public class InterviewQuestionIndex {
+
+    private static final double QUESTION_BOOST = 2.0;
+    private static final double ANSWER_BOOST = 1.0;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final InterviewQuestionRepository repository;
+    // Replaced whole by rebuild; writes to the current one are guarded by this
+    private volatile Contents contents = Contents.empty();
+    private volatile boolean ready;
+
+    public InterviewQuestionIndex(InterviewQuestionRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Writes wait for a running rebuild, so one committed while it reads is applied on top of it.
+    // Reads projections rather than entities: there is no session here to load the lazy tags.
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Contents built = Contents.empty();
+        List<InterviewQuestionRepository.IndexEntryProjection> batch;
+        long afterId = 0;
+        do {
+            batch = repository.findIndexEntriesAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(InterviewQuestionRepository.IndexEntryProjection::getId).toList();
+            Map<Long, List<String>> tags = repository.findTagEntriesByIdIn(ids).stream()
+                    .collect(Collectors.groupingBy(TagEntryProjection::getId,
+                            Collectors.mapping(TagEntryProjection::getTag, Collectors.toList())));
+            for (InterviewQuestionRepository.IndexEntryProjection question : batch) {
+                built.put(question.getId(), question.getQuestion(), question.getAnswer(), question.getDifficulty(),
+                        tags.get(question.getId()));
+            }
+            afterId = ids.get(ids.size() - 1);
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        contents = built;
+        ready = true;
+        log.info("Interview question index built with {} questions in {} ms", built.documents().size(),
+                System.currentTimeMillis() - start);
+    }
+
+    public synchronized void index(InterviewQuestionDto question) {
+        contents.put(question.getId(), question.getQuestion(), question.getAnswer(), question.getDifficulty(),
+                question.getTags());
+    }
+
+    public synchronized void indexAll(Collection<InterviewQuestionDto> questions) {
+        questions.forEach(this::index);
+    }
+
+    public synchronized void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        contents.index().remove(id);
+        contents.documents().remove(id);
+    }
+
+    /**
+     * One page of questions matching every term of {@code query}, best first. A null tag or
+     * difficulty matches any; tags are compared ignoring case.
+     */
+    public Result search(String query, String tag, InterviewQuestion.Difficulty difficulty, Pageable pageable) {
+        if (!ready) {
+            return searchDatabase(query, tag, difficulty, pageable);
+        }
+        Contents current = contents;
+        Map<Long, Double> scores = current.index().search(query);
+        String tagKey = lower(tag);
+        List<Hit> matching = scores.entrySet().stream()
+                .filter(entry -> matches(current.documents().get(entry.getKey()), tagKey, difficulty))
+                .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(Hit::score).reversed()
+                        .thenComparing(Hit::id, Comparator.reverseOrder()))
+                .collect(Collectors.toList());
+        int from = (int) Math.min(pageable.getOffset(), matching.size());
+        int to = Math.min(from + pageable.getPageSize(), matching.size());
+        return new Result(List.copyOf(matching.subList(from, to)), matching.size());
+    }
+
+    public int size() {
+        return contents.documents().size();
+    }
+
+    // Unranked, newest first; every hit scores 0
+    private Result searchDatabase(String query, String tag, InterviewQuestion.Difficulty difficulty,
+                                  Pageable pageable) {
+        List<String> terms = InvertedIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+        Page<InterviewQuestion> page = repository.findAll(
+                InterviewQuestionSpecifications.containsAll(terms, tag, difficulty),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id")));
+        return new Result(page.map(question -> new Hit(question.getId(), 0)).getContent(), page.getTotalElements());
+    }
+
+    private static boolean matches(QuestionDocument doc, String tag, InterviewQuestion.Difficulty difficulty) {
+        if (doc == null) {
+            return false;
+        }
+        if (difficulty != null && difficulty != doc.difficulty()) {
+            return false;
+        }
+        return tag == null || tag.isEmpty() || doc.tags().contains(tag);
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Hit(Long id, double score) {
+    }
+
+    /**
+     * @param hits  the requested page, best first
+     * @param total number of matching questions
+     */
+    public record Result(List<Hit> hits, long total) {
+    }
+
+    /**
+     * Filterable columns of a question, kept without the text.
+     */
+    record QuestionDocument(InterviewQuestion.Difficulty difficulty, Set<String> tags) {
+    }
+
+    private record Contents(InvertedIndex index, Map<Long, QuestionDocument> documents) {
+
+        static Contents empty() {
+            return new Contents(new InvertedIndex(QUESTION_BOOST, ANSWER_BOOST), new ConcurrentHashMap<>());
+        }
+
+        void put(Long id, String question, String answer, InterviewQuestion.Difficulty difficulty,
+                 List<String> tags) {
+            if (id == null) {
+                return;
+            }
+            index.put(id, question, answer);
+            Set<String> tagKeys = tags == null ? Set.of() : tags.stream()
+                    .map(InterviewQuestionIndex::lower)
+                    .filter(t -> t != null && !t.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+            documents.put(id, new QuestionDocument(difficulty, tagKeys));
+        }
+    }
+}
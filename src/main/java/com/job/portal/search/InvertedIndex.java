@@ -0,0 +1,211 @@
+package com.job.portal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe in-memory inverted index with BM25F scoring over a fixed set of weighted fields.
+ * Documents are identified by their database id; every query term must match (AND semantics),
+ * and each term also matches indexed terms it is a prefix of so "engineer" still finds "engineering".
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private final double[] fieldBoosts;
+
+    // term -> (docId -> term frequency per field)
+    private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    // docId -> token count per field, used for length normalisation and removal
+    private final Map<Long, int[]> fieldLengths = new HashMap<>();
+    private final Map<Long, Set<String>> docTerms = new HashMap<>();
+    private final long[] totalFieldLengths;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(double... fieldBoosts) {
+        if (fieldBoosts.length == 0) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        this.fieldBoosts = fieldBoosts.clone();
+        this.totalFieldLengths = new long[fieldBoosts.length];
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Indexes (or re-indexes) a document. Field values must be passed in the same order as the
+     * boosts given to the constructor; null values are treated as empty.
+     */
+    public void put(long docId, String... fieldValues) {
+        if (fieldValues.length != fieldBoosts.length) {
+            throw new IllegalArgumentException("Expected " + fieldBoosts.length + " fields but got " + fieldValues.length);
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            int[] lengths = new int[fieldBoosts.length];
+            Set<String> terms = new HashSet<>();
+            for (int field = 0; field < fieldValues.length; field++) {
+                List<String> tokens = tokenize(fieldValues[field]);
+                lengths[field] = tokens.size();
+                totalFieldLengths[field] += tokens.size();
+                for (String token : tokens) {
+                    int[] tf = postings.computeIfAbsent(token, t -> new HashMap<>())
+                            .computeIfAbsent(docId, d -> new int[fieldBoosts.length]);
+                    tf[field]++;
+                    terms.add(token);
+                }
+            }
+            fieldLengths.put(docId, lengths);
+            docTerms.put(docId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            fieldLengths.clear();
+            docTerms.clear();
+            Arrays.fill(totalFieldLengths, 0L);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fieldLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the BM25F score of every document matching all terms of the query. A query
+     * without any indexable token matches nothing.
+     */
+    public Map<Long, Double> search(String query) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return Map.of();
+        }
+        lock.readLock().lock();
+        try {
+            int docCount = fieldLengths.size();
+            double[] avgLengths = new double[fieldBoosts.length];
+            for (int field = 0; field < fieldBoosts.length; field++) {
+                avgLengths[field] = docCount == 0 ? 0 : (double) totalFieldLengths[field] / docCount;
+            }
+
+            Map<Long, Double> scores = null;
+            for (String queryTerm : new HashSet<>(queryTerms)) {
+                Map<Long, Double> termScores = scoreTerm(queryTerm, docCount, avgLengths);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Double> intersection = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        Double termScore = termScores.get(entry.getKey());
+                        if (termScore != null) {
+                            intersection.put(entry.getKey(), entry.getValue() + termScore);
+                        }
+                    }
+                    scores = intersection;
+                }
+                if (scores.isEmpty()) {
+                    return Map.of();
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String queryTerm, int docCount, double[] avgLengths) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, int[]>> entry
+                : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double weight = entry.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_WEIGHT;
+            Map<Long, int[]> docs = entry.getValue();
+            double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+            for (Map.Entry<Long, int[]> doc : docs.entrySet()) {
+                int[] tf = doc.getValue();
+                int[] lengths = fieldLengths.get(doc.getKey());
+                double weightedTf = 0;
+                for (int field = 0; field < tf.length; field++) {
+                    if (tf[field] == 0) {
+                        continue;
+                    }
+                    double norm = avgLengths[field] == 0 ? 1 : 1 - B + B * lengths[field] / avgLengths[field];
+                    weightedTf += fieldBoosts[field] * tf[field] / norm;
+                }
+                double score = weight * idf * weightedTf * (K1 + 1) / (weightedTf + K1);
+                termScores.merge(doc.getKey(), score, Math::max);
+            }
+        }
+        return termScores;
+    }
+
+    private void removeInternal(long docId) {
+        Set<String> terms = docTerms.remove(docId);
+        int[] lengths = fieldLengths.remove(docId);
+        if (terms == null || lengths == null) {
+            return;
+        }
+        for (int field = 0; field < lengths.length; field++) {
+            totalFieldLengths[field] -= lengths[field];
+        }
+        for (String term : terms) {
+            Map<Long, int[]> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(docId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.JobFacets;
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.pagination.JobCursor;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.specification.JobSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every job in an {@link InvertedIndex} over title, company and details plus a small
+ * in-memory copy of the filterable columns, so a search resolves to an ordered id page without
+ * touching the database. Only the summary columns of the requested page are then loaded by id.
+ * <p>
+ * Requests the index cannot answer (unknown sort property, index not built yet) are handed
+ * to the fallback engine. A rebuild fills a new index and swaps it in, so searches keep using
+ * the previous one meanwhile.
+ */
+@Slf4j
+public class InvertedIndexJobSearchEngine implements JobSearchEngine {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final double TITLE_BOOST = 3.0;
+    private static final double COMPANY_BOOST = 2.0;
+    private static final double DETAILS_BOOST = 1.0;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final Map<String, Function<JobDocument, Comparable<?>>> SORTABLE = Map.of(
+            "id", JobDocument::id,
+            "jobTitle", JobDocument::jobTitle,
+            "company", JobDocument::company,
+            "location", JobDocument::location,
+            "jobType", JobDocument::jobType,
+            "postedAt", JobDocument::postedAt,
+            "salaryMin", JobDocument::salaryMin,
+            "salaryMax", JobDocument::salaryMax);
+
+    private final JobRepository jobRepository;
+    private final JobSearchEngine fallback;
+    // Replaced whole by rebuild; writes to the current one are guarded by this
+    private volatile Contents contents = Contents.empty();
+    private volatile boolean ready;
+
+    public InvertedIndexJobSearchEngine(JobRepository jobRepository, JobSearchEngine fallback) {
+        this.jobRepository = jobRepository;
+        this.fallback = fallback;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Writes wait for a running rebuild, so a delete committed while it reads is applied to the
+    // new index after the swap instead of to the old one it is about to replace
+    @Override
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Contents built = Contents.empty();
+        Page<Job> batch;
+        int pageNumber = 0;
+        do {
+            batch = jobRepository.findAll(PageRequest.of(pageNumber++, REBUILD_BATCH_SIZE, Sort.by("id")));
+            batch.forEach(built::put);
+        } while (batch.hasNext());
+        contents = built;
+        ready = true;
+        log.info("Job search index built with {} jobs in {} ms", built.documents().size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public synchronized void index(Job job) {
+        contents.put(job);
+    }
+
+    @Override
+    public synchronized void indexAll(Collection<Job> jobs) {
+        jobs.forEach(contents::put);
+    }
+
+    @Override
+    public synchronized void remove(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        contents.index().remove(jobId);
+        contents.documents().remove(jobId);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Page<JobSummaryDTO> search(JobSearchCriteria criteria, Pageable pageable) {
+        if (!ready || !supports(pageable.getSort())) {
+            return fallback.search(criteria, pageable);
+        }
+
+        List<Long> ids = findMatchingIds(criteria, pageable.getSort());
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(loadInOrder(ids.subList(from, to)), pageable, ids.size());
+    }
+
+    @Override
+    public JobIdPage searchIds(JobSearchCriteria criteria, Pageable pageable) {
+        if (!ready || !supports(pageable.getSort())) {
+            return fallback.searchIds(criteria, pageable);
+        }
+
+        List<Long> ids = findMatchingIds(criteria, pageable.getSort());
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new JobIdPage(ids.subList(from, to), ids.size());
+    }
+
+    @Override
+    public Slice<JobSummaryDTO> searchSlice(JobSearchCriteria criteria, Pageable pageable) {
+        if (!ready || !supports(pageable.getSort())) {
+            return fallback.searchSlice(criteria, pageable);
+        }
+
+        List<Long> ids = findMatchingIds(criteria, pageable.getSort());
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new SliceImpl<>(loadInOrder(ids.subList(from, to)), pageable, to < ids.size());
+    }
+
+    @Override
+    public long count(JobSearchCriteria criteria) {
+        if (!ready) {
+            return fallback.count(criteria);
+        }
+        return matchingDocuments(criteria, null).count();
+    }
+
+    @Override
+    public JobFacets facets(JobSearchCriteria criteria) {
+        if (!ready) {
+            return fallback.facets(criteria);
+        }
+        FacetCounter counter = new FacetCounter();
+        matchingDocuments(criteria, null)
+                .forEach(doc -> counter.add(doc.jobType(), doc.location(), doc.company(), doc.experience(), 1));
+        return counter.toFacets();
+    }
+
+    @Override
+    public List<JobSummaryDTO> searchAfter(JobSearchCriteria criteria, JobCursor cursor, int limit) {
+        if (!ready) {
+            return fallback.searchAfter(criteria, cursor, limit);
+        }
+
+        List<Long> ids = matchingDocuments(criteria, JobCursor.ORDER)
+                .filter(doc -> cursor == null || cursor.isFollowedBy(doc.postedAt(), doc.id()))
+                .limit(limit)
+                .map(JobDocument::id)
+                .collect(Collectors.toList());
+        return loadInOrder(ids);
+    }
+
+    List<Long> findMatchingIds(JobSearchCriteria criteria, Sort sort) {
+        return matchingDocuments(criteria, sort)
+                .map(JobDocument::id)
+                .collect(Collectors.toList());
+    }
+
+    private Stream<JobDocument> matchingDocuments(JobSearchCriteria criteria, Sort sort) {
+        String keyword = criteria != null ? criteria.getKeyword() : null;
+        Contents current = contents;
+        Map<Long, Double> scores = null;
+        Stream<JobDocument> candidates;
+        if (keyword != null && !keyword.isBlank()) {
+            scores = current.index().search(keyword);
+            candidates = scores.keySet().stream().map(current.documents()::get).filter(Objects::nonNull);
+        } else {
+            candidates = current.documents().values().stream();
+        }
+
+        Stream<JobDocument> matching = candidates.filter(doc -> matches(doc, criteria));
+        return sort == null ? matching : matching.sorted(comparator(sort, scores));
+    }
+
+    private boolean supports(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!RELEVANCE.equals(order.getProperty()) && !SORTABLE.containsKey(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<JobSummaryDTO> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobSummaryDTO> byId = jobRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(JobSummaryDTO::getId, Function.identity()));
+        List<JobSummaryDTO> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobSummaryDTO job = byId.get(id);
+            if (job != null) {
+                ordered.add(job);
+            }
+        }
+        return ordered;
+    }
+
+    private static boolean matches(JobDocument doc, JobSearchCriteria criteria) {
+        if (criteria == null) {
+            return true;
+        }
+        if (isPresent(criteria.getLocation())
+                && (doc.locationKey() == null || !doc.locationKey().contains(lower(criteria.getLocation())))) {
+            return false;
+        }
+        if (isPresent(criteria.getJobType()) && !lower(criteria.getJobType()).equals(doc.jobTypeKey())) {
+            return false;
+        }
+        if (isPresent(criteria.getCompany()) && !lower(criteria.getCompany()).equals(doc.companyKey())) {
+            return false;
+        }
+        String currency = JobSpecifications.salaryCurrency(criteria);
+        if (currency != null && !currency.equals(doc.currency() == null ? "" : doc.currency())) {
+            return false;
+        }
+        if (criteria.getMinSalary() != null
+                && (doc.salaryMax() == null || doc.salaryMax() < criteria.getMinSalary())) {
+            return false;
+        }
+        if (criteria.getMaxSalary() != null
+                && (doc.salaryMin() == null || doc.salaryMin() > criteria.getMaxSalary())) {
+            return false;
+        }
+        LocalDate postedFrom = criteria.getPostedFrom();
+        if (postedFrom != null && (doc.postedAt() == null || doc.postedAt().isBefore(postedFrom.atStartOfDay()))) {
+            return false;
+        }
+        LocalDate postedTo = criteria.getPostedTo();
+        return postedTo == null
+                || (doc.postedAt() != null && doc.postedAt().isBefore(postedTo.plusDays(1).atStartOfDay()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<JobDocument> comparator(Sort sort, Map<Long, Double> scores) {
+        Comparator<JobDocument> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<JobDocument> next;
+            if (RELEVANCE.equals(order.getProperty())) {
+                next = Comparator.comparingDouble(doc -> scores == null ? 0 : scores.getOrDefault(doc.id(), 0.0));
+                if (order.isDescending()) {
+                    next = next.reversed();
+                }
+            } else {
+                Function<JobDocument, Comparable> extractor = (Function) SORTABLE.get(order.getProperty());
+                Comparator<Comparable> values = order.isDescending()
+                        ? Comparator.reverseOrder() : Comparator.naturalOrder();
+                // Nulls go last in either direction unless asked otherwise, as the controller's sorts request
+                next = Comparator.comparing(extractor, order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+                        ? Comparator.nullsFirst(values) : Comparator.nullsLast(values));
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<JobDocument> tieBreaker = Comparator.comparing(JobDocument::id, Comparator.reverseOrder());
+        return comparator == null ? tieBreaker : comparator.thenComparing(tieBreaker);
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Filterable and sortable columns of a job, kept without the details text.
+     */
+    record JobDocument(Long id, String jobTitle, String company, String companyKey, String location,
+                       String locationKey, String jobType, String jobTypeKey, String experience, Long salaryMin,
+                       Long salaryMax, String currency, LocalDateTime postedAt) {
+
+        static JobDocument of(Job job) {
+            return new JobDocument(job.getId(), job.getJobTitle(), job.getCompany(), lower(job.getCompany()),
+                    job.getLocation(), lower(job.getLocation()), job.getJobType(), lower(job.getJobType()),
+                    job.getExperience(), job.getSalaryMin(), job.getSalaryMax(), job.getCurrency(),
+                    job.getPostedAt());
+        }
+    }
+
+    private record Contents(InvertedIndex index, Map<Long, JobDocument> documents) {
+
+        static Contents empty() {
+            return new Contents(new InvertedIndex(TITLE_BOOST, COMPANY_BOOST, DETAILS_BOOST), new ConcurrentHashMap<>());
+        }
+
+        void put(Job job) {
+            if (job == null || job.getId() == null) {
+                return;
+            }
+            index.put(job.getId(), job.getJobTitle(), job.getCompany(), job.getJobDetails());
+            documents.put(job.getId(), JobDocument.of(job));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.job.portal.search;
+
+import java.util.List;
+
+/**
+ * One page of search results as job ids in result order, plus the total number of matches.
+ * This is what the search cache holds; the list cards are looked up by id when served.
+ */
+public record JobIdPage(List<Long> ids, long total) {
+
+    public JobIdPage {
+        ids = List.copyOf(ids);
+    }
+}
@@ -0,0 +1,63 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.JobFacets;
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.pagination.JobCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pluggable backend behind {@code JobService.searchJobs}. Results are list-card summaries; the
+ * full job is only loaded by id. Implementations that keep their own index are notified of every
+ * job write; the others can ignore those callbacks.
+ */
+public interface JobSearchEngine {
+
+    Page<JobSummaryDTO> search(JobSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * The ids of the {@link #search} page in result order and the total, for callers that load
+     * the summaries themselves.
+     */
+    default JobIdPage searchIds(JobSearchCriteria criteria, Pageable pageable) {
+        Page<JobSummaryDTO> page = search(criteria, pageable);
+        return new JobIdPage(page.getContent().stream().map(JobSummaryDTO::getId).toList(), page.getTotalElements());
+    }
+
+    /**
+     * Keyset variant of {@link #search}: returns at most {@code limit} matches following
+     * {@code cursor} in {@link JobCursor#ORDER}, without computing a total.
+     */
+    List<JobSummaryDTO> searchAfter(JobSearchCriteria criteria, JobCursor cursor, int limit);
+
+    /**
+     * Like {@link #search} but only reports whether a next page exists instead of a total.
+     */
+    Slice<JobSummaryDTO> searchSlice(JobSearchCriteria criteria, Pageable pageable);
+
+    long count(JobSearchCriteria criteria);
+
+    /**
+     * Counts of the jobType, location, company and experience values among all matches.
+     */
+    JobFacets facets(JobSearchCriteria criteria);
+
+    default void index(Job job) {
+    }
+
+    default void indexAll(Collection<Job> jobs) {
+        jobs.forEach(this::index);
+    }
+
+    default void remove(Long jobId) {
+    }
+
+    default void rebuild() {
+    }
+}
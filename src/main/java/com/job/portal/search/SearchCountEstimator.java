@@ -0,0 +1,56 @@
+package com.job.portal.search;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.job.portal.dto.JobSearchCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Approximate search totals for count-free result pages. Counts are computed in the background
+ * and cached per criteria, so a request never waits for one: the first request for new criteria
+ * gets no estimate, and stale estimates are refreshed while the previous value is still served.
+ */
+@Component
+@Slf4j
+public class SearchCountEstimator {
+
+    private final LoadingCache<JobSearchCriteria, Long> estimates;
+    private final Executor executor;
+
+    public SearchCountEstimator(JobSearchEngine jobSearchEngine,
+                                @Qualifier("cacheRefreshExecutor") Executor executor,
+                                @Value("${app.search.count-estimate.refresh-after:PT1M}") Duration refreshAfter,
+                                @Value("${app.search.count-estimate.expire-after:PT30M}") Duration expireAfter,
+                                @Value("${app.search.count-estimate.max-entries:1000}") long maxEntries) {
+        this.executor = executor;
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .executor(executor)
+                .build(jobSearchEngine::count);
+    }
+
+    /**
+     * Returns the cached total for the criteria, or null if none is available yet.
+     */
+    public Long estimate(JobSearchCriteria criteria) {
+        JobSearchCriteria key = criteria != null ? criteria : new JobSearchCriteria();
+        Long estimate = estimates.getIfPresent(key);
+        if (estimate == null) {
+            try {
+                executor.execute(() -> estimates.get(key));
+            } catch (RejectedExecutionException e) {
+                log.debug("Skipped search count estimate for {}: refresh pool is busy", key);
+            }
+        }
+        return estimate;
+    }
+}
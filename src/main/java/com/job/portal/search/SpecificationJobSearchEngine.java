@@ -0,0 +1,65 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.JobFacets;
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.pagination.JobCursor;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.specification.JobSpecifications;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Database-backed search using {@link JobSpecifications}. Used directly when
+ * {@code app.search.engine=specification} and as the fallback of the index engine.
+ * <p>
+ * There are no relevance scores here, so a {@code relevance} sort is served newest first.
+ */
+public class SpecificationJobSearchEngine implements JobSearchEngine {
+
+    private final JobRepository jobRepository;
+
+    public SpecificationJobSearchEngine(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @Override
+    public Page<JobSummaryDTO> search(JobSearchCriteria criteria, Pageable pageable) {
+        return jobRepository.findSummaries(JobSpecifications.build(criteria), withoutRelevance(pageable));
+    }
+
+    @Override
+    public List<JobSummaryDTO> searchAfter(JobSearchCriteria criteria, JobCursor cursor, int limit) {
+        return jobRepository.findSummaries(
+                JobSpecifications.build(criteria).and(JobSpecifications.seekAfter(cursor)), JobCursor.ORDER, limit);
+    }
+
+    @Override
+    public Slice<JobSummaryDTO> searchSlice(JobSearchCriteria criteria, Pageable pageable) {
+        return jobRepository.findSummarySlice(JobSpecifications.build(criteria), withoutRelevance(pageable));
+    }
+
+    @Override
+    public long count(JobSearchCriteria criteria) {
+        return jobRepository.count(JobSpecifications.build(criteria));
+    }
+
+    @Override
+    public JobFacets facets(JobSearchCriteria criteria) {
+        FacetCounter counter = new FacetCounter();
+        jobRepository.findFacetRows(JobSpecifications.build(criteria))
+                .forEach(row -> counter.add(row.jobType(), row.location(), row.company(), row.experience(), row.count()));
+        return counter.toFacets();
+    }
+
+    private static Pageable withoutRelevance(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(InvertedIndexJobSearchEngine.RELEVANCE) == null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), JobCursor.ORDER);
+    }
+}
@@ -57,6 +57,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/learning-resources/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/interview-questions/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/quizzes/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/tags/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/contact/**").permitAll()
                         .requestMatchers("/api/payments/**").permitAll()
@@ -64,6 +65,9 @@ public class SecurityConfig {
                         // Actuator endpoints - allow health checks for Kubernetes
                         .requestMatchers("/actuator/health/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
+                        // Cache stats list raw search keys, so only admins may read them
+                        .requestMatchers("/actuator/cachestats", "/actuator/cachestats/**",
+                                "/actuator/cachebudget", "/actuator/cachebudget/**").hasRole("ADMIN")
                         // All other actuator endpoints require authentication
                         .requestMatchers("/actuator/**").authenticated()
                         // All other requests require authentication
@@ -0,0 +1,206 @@
+package com.job.portal.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.portal.dto.BulkImportResultDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a JSON array of items without binding the whole array: items are parsed one at a time
+ * from the request body and handed to the content's batch create method in chunks of
+ * {@code chunk-size}, each in its own transaction, so a large seed import neither holds every
+ * item in memory nor runs as one giant transaction.
+ * <p>
+ * An item that does not bind or fails bean validation is reported and skipped. When a chunk
+ * fails to save, its items are retried one by one so only the bad ones are reported. A body
+ * that is not well-formed JSON stops the import after the items read so far. Running imports
+ * can be watched through {@link #running()}.
+ */
+@Component
+@Slf4j
+public class BulkImporter {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Map<String, Progress> running = new ConcurrentHashMap<>();
+
+    public BulkImporter(ObjectMapper objectMapper, Validator validator,
+                        @Value("${app.import.chunk-size:500}") int chunkSize,
+                        @Value("${app.import.max-errors:100}") int maxErrors) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Reads {@code body} as a JSON array of {@code itemType}, saving full chunks with
+     * {@code saveChunk} and falling back to {@code saveOne} per item when a chunk fails.
+     */
+    public <T> BulkImportResultDto run(String type, InputStream body, Class<T> itemType,
+                                       Consumer<List<T>> saveChunk, Consumer<T> saveOne) {
+        Progress progress = new Progress(UUID.randomUUID().toString(), type, maxErrors);
+        running.put(progress.id, progress);
+        log.info("Import {} of {} started", progress.id, type);
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                progress.error(-1, "Expected a JSON array");
+                return progress.finish(false);
+            }
+            List<Item<T>> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                JsonToken token;
+                JsonNode node;
+                try {
+                    token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        break;
+                    }
+                    node = parser.readValueAsTree();
+                } catch (JsonProcessingException e) {
+                    progress.error(progress.received, "Malformed JSON: " + e.getOriginalMessage());
+                    save(chunk, saveChunk, saveOne, progress);
+                    return progress.finish(false);
+                }
+                int index = progress.received++;
+                T item = bind(node, itemType, index, progress);
+                if (item != null) {
+                    chunk.add(new Item<>(index, item));
+                    if (chunk.size() == chunkSize) {
+                        save(chunk, saveChunk, saveOne, progress);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+            save(chunk, saveChunk, saveOne, progress);
+            return progress.finish(true);
+        } catch (IOException e) {
+            progress.error(-1, "Could not read the request body: " + e.getMessage());
+            return progress.finish(false);
+        } finally {
+            running.remove(progress.id);
+        }
+    }
+
+    /**
+     * Progress of the imports currently running on this instance.
+     */
+    public List<BulkImportResultDto> running() {
+        return running.values().stream().map(Progress::snapshot).toList();
+    }
+
+    private <T> T bind(JsonNode node, Class<T> itemType, int index, Progress progress) {
+        T item;
+        try {
+            item = objectMapper.treeToValue(node, itemType);
+        } catch (JsonProcessingException e) {
+            progress.error(index, e.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            progress.error(index, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return item;
+    }
+
+    private <T> void save(List<Item<T>> chunk, Consumer<List<T>> saveChunk, Consumer<T> saveOne, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        progress.chunks++;
+        try {
+            saveChunk.accept(chunk.stream().map(Item::value).toList());
+            progress.imported += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Import {} chunk of {} items failed, retrying one by one: {}",
+                    progress.id, chunk.size(), e.getMessage());
+            for (Item<T> item : chunk) {
+                try {
+                    saveOne.accept(item.value());
+                    progress.imported++;
+                } catch (RuntimeException itemError) {
+                    progress.error(item.index(), itemError.getMessage());
+                }
+            }
+        }
+        log.info("Import {} of {}: {} received, {} imported, {} failed",
+                progress.id, progress.type, progress.received, progress.imported, progress.failed);
+    }
+
+    private record Item<T>(int index, T value) {
+    }
+
+    // Written only by the importing thread; running() may read slightly stale counts
+    private static final class Progress {
+        private final String id;
+        private final String type;
+        private final int maxErrors;
+        private final long start = System.currentTimeMillis();
+        private final List<BulkImportResultDto.ItemError> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile int received;
+        private volatile int imported;
+        private volatile int failed;
+        private volatile int chunks;
+        private volatile boolean errorsTruncated;
+
+        private Progress(String id, String type, int maxErrors) {
+            this.id = id;
+            this.type = type;
+            this.maxErrors = maxErrors;
+        }
+
+        void error(int index, String message) {
+            if (index >= 0) {
+                failed++;
+            }
+            if (errors.size() < maxErrors) {
+                errors.add(new BulkImportResultDto.ItemError(index, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        BulkImportResultDto finish(boolean completed) {
+            BulkImportResultDto result = snapshot();
+            result.setCompleted(completed);
+            log.info("Import {} of {} {} in {} ms: {} received, {} imported, {} failed", id, type,
+                    completed ? "finished" : "stopped", result.getTookMillis(), received, imported, failed);
+            return result;
+        }
+
+        BulkImportResultDto snapshot() {
+            List<BulkImportResultDto.ItemError> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = List.copyOf(errors);
+            }
+            return new BulkImportResultDto(id, type, received, imported, failed, chunks, false,
+                    System.currentTimeMillis() - start, errorsCopy, errorsTruncated);
+        }
+    }
+}
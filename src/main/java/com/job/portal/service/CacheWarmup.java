@@ -0,0 +1,136 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.JobSummaryDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Loads the caches every first page view reads (latest jobs, the first listing page, counts,
+ * type stats, topics and the newest job details) in parallel after startup, so the first wave of
+ * traffic after a deploy does not run all of those queries at once.
+ * <p>
+ * Also a health indicator in the readiness group: the instance reports out of service until the
+ * warm-up has finished or timed out, so the orchestrator only routes traffic to it afterwards.
+ * A failed load is logged and skipped; it never keeps the instance out of rotation.
+ */
+@Component
+@Slf4j
+public class CacheWarmup implements HealthIndicator {
+
+    private final JobService jobService;
+    private final TopicService topicService;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int jobIds;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile boolean done;
+    private volatile long tookMillis;
+
+    public CacheWarmup(JobService jobService, TopicService topicService,
+                       @Value("${app.cache.warmup.enabled:true}") boolean enabled,
+                       @Value("${app.cache.warmup.page-size:20}") int pageSize,
+                       @Value("${app.cache.warmup.job-ids:50}") int jobIds,
+                       @Value("${app.cache.warmup.parallelism:4}") int parallelism,
+                       @Value("${app.cache.warmup.timeout:PT30S}") Duration timeout) {
+        this.jobService = jobService;
+        this.topicService = topicService;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.jobIds = jobIds;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+        this.done = !enabled;
+    }
+
+    // After the latest jobs feed has loaded, so the newest ids come from memory
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().name("cache-warmup").daemon().start(this::warmUp);
+    }
+
+    /**
+     * Runs the warm-up and blocks until it finishes or times out.
+     */
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("cache-warmup-", 0).daemon().factory());
+        try {
+            List<CompletableFuture<Void>> loads = new ArrayList<>();
+            loads.add(load(pool, "latest jobs", () -> jobService.getLatestJobs(null, pageSize)));
+            loads.add(load(pool, "first jobs page", () -> jobService.getAllJobs(0, pageSize)));
+            loads.add(load(pool, "job count", jobService::getJobCount));
+            loads.add(load(pool, "job stats by type", jobService::getJobStatsByType));
+            loads.add(load(pool, "topics", topicService::getAll));
+            for (JobSummaryDTO job : jobService.getLatestJobs(jobIds)) {
+                loads.add(load(pool, "job " + job.getId(), () -> jobService.getJobById(job.getId())));
+            }
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up did not finish within {}; accepting traffic anyway", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("Cache warm-up stopped early", e);
+        } finally {
+            pool.shutdownNow();
+            tookMillis = System.currentTimeMillis() - start;
+            done = true;
+            log.info("Cache warm-up finished in {} ms: {} loaded, {} failed", tookMillis, loaded.get(), failed.get());
+        }
+    }
+
+    private CompletableFuture<Void> load(ExecutorService pool, String name, Supplier<?> loader) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                loader.get();
+                loaded.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.warn("Cache warm-up of {} failed: {}", name, e.getMessage());
+            }
+        }, pool);
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public Health health() {
+        if (!done) {
+            return Health.outOfService().withDetail("loaded", loaded.get()).build();
+        }
+        return Health.up()
+                .withDetails(Map.of("loaded", loaded.get(), "failed", failed.get(), "tookMillis", tookMillis))
+                .build();
+    }
+}
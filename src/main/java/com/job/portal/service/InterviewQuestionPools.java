@@ -0,0 +1,266 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.repository.InterviewQuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Interview question ids grouped by tag and difficulty, kept in memory so practice sets are
+ * sampled without joining the tag table or scanning with {@code ORDER BY RANDOM()}.
+ * <p>
+ * Every question sits in one pool per tag and difficulty, plus the "any tag" and "any
+ * difficulty" pools, so each lookup is a single map read. Pools are loaded at startup and then
+ * maintained by the interview question write paths. A write adds or removes ids in place, so it
+ * costs one step per pool the question is in, whatever the size of those pools. Readers share a
+ * read lock that writers hold only for that in-memory step. Tags are matched ignoring case.
+ * <p>
+ * Until the startup load finishes, samples are empty. Callers apply writes only after the
+ * transaction that made them commits.
+ */
+@Component
+@Slf4j
+public class InterviewQuestionPools {
+
+    private final InterviewQuestionRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Writers are serialized by this; readers and the in-place updates share the lock above
+    private Map<Long, Membership> members = new HashMap<>();
+    private Map<PoolKey, Pool> pools = new HashMap<>();
+    private volatile boolean ready;
+
+    public InterviewQuestionPools(InterviewQuestionRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    // Writes wait for a running reload, so one committed while it reads is applied on top of it
+    public synchronized void reload() {
+        Map<Long, Membership> loaded = new HashMap<>();
+        for (InterviewQuestionRepository.PoolEntryProjection entry : repository.findPoolEntries()) {
+            Membership membership = loaded.computeIfAbsent(entry.getId(),
+                    id -> new Membership(entry.getDifficulty(), new HashSet<>()));
+            String tag = normalize(entry.getTag());
+            if (tag != null) {
+                membership.tags().add(tag);
+            }
+        }
+        Map<PoolKey, Pool> built = new HashMap<>();
+        loaded.forEach((id, membership) -> add(built, id, membership));
+        lock.writeLock().lock();
+        try {
+            members = loaded;
+            pools = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("Interview question pools loaded with {} questions in {} pools", loaded.size(), built.size());
+    }
+
+    /**
+     * Up to {@code size} distinct question ids with the given tag and difficulty, in random
+     * order. A null tag or difficulty matches any. Empty until the pools are loaded.
+     */
+    public List<Long> sample(String tag, InterviewQuestion.Difficulty difficulty, int size) {
+        if (!ready || size <= 0) {
+            return List.of();
+        }
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            Pool pool = pools.get(new PoolKey(normalize(tag), difficulty));
+            if (pool == null) {
+                return List.of();
+            }
+            ids = pool.sample(size, ThreadLocalRandom.current());
+        } finally {
+            lock.readLock().unlock();
+        }
+        Collections.shuffle(ids, ThreadLocalRandom.current());
+        return ids;
+    }
+
+    public int size(String tag, InterviewQuestion.Difficulty difficulty) {
+        lock.readLock().lock();
+        try {
+            Pool pool = pools.get(new PoolKey(normalize(tag), difficulty));
+            return pool == null ? 0 : pool.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(InterviewQuestionDto question) {
+        putAll(List.of(question));
+    }
+
+    /**
+     * Adds new questions and moves updated ones to the pools of their current tags and difficulty.
+     */
+    public synchronized void putAll(Collection<InterviewQuestionDto> questions) {
+        if (!ready || questions.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (InterviewQuestionDto question : questions) {
+                removeMember(question.getId());
+                Set<String> tags = new HashSet<>();
+                if (question.getTags() != null) {
+                    for (String tag : question.getTags()) {
+                        String normalized = normalize(tag);
+                        if (normalized != null) {
+                            tags.add(normalized);
+                        }
+                    }
+                }
+                Membership membership = new Membership(question.getDifficulty(), tags);
+                members.put(question.getId(), membership);
+                add(pools, question.getId(), membership);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        if (!ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeMember(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeMember(Long id) {
+        Membership membership = members.remove(id);
+        if (membership == null) {
+            return;
+        }
+        for (PoolKey key : membership.keys()) {
+            Pool pool = pools.get(key);
+            if (pool != null) {
+                pool.remove(id);
+                if (pool.size() == 0) {
+                    pools.remove(key);
+                }
+            }
+        }
+    }
+
+    private static void add(Map<PoolKey, Pool> pools, Long id, Membership membership) {
+        for (PoolKey key : membership.keys()) {
+            pools.computeIfAbsent(key, k -> new Pool()).add(id);
+        }
+    }
+
+    private static String normalize(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return null;
+        }
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // A null tag or difficulty is the pool matching any
+    private record PoolKey(String tag, InterviewQuestion.Difficulty difficulty) {
+    }
+
+    private record Membership(InterviewQuestion.Difficulty difficulty, Set<String> tags) {
+
+        List<PoolKey> keys() {
+            List<PoolKey> keys = new ArrayList<>(2 * tags.size() + 2);
+            keys.add(new PoolKey(null, null));
+            if (difficulty != null) {
+                keys.add(new PoolKey(null, difficulty));
+            }
+            for (String tag : tags) {
+                keys.add(new PoolKey(tag, null));
+                if (difficulty != null) {
+                    keys.add(new PoolKey(tag, difficulty));
+                }
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Ids in an array for random access, with each id's slot so removal swaps the last id into
+     * the gap instead of shifting or copying the array.
+     */
+    private static final class Pool {
+
+        private long[] ids = new long[8];
+        private int size;
+        private final Map<Long, Integer> slots = new HashMap<>();
+
+        int size() {
+            return size;
+        }
+
+        void add(Long id) {
+            if (slots.putIfAbsent(id, size) != null) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(Long id) {
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            long last = ids[--size];
+            if (slot != size) {
+                ids[slot] = last;
+                slots.put(last, slot);
+            }
+        }
+
+        List<Long> sample(int count, ThreadLocalRandom random) {
+            int k = Math.min(count, size);
+            // Floyd's algorithm: k distinct slots in O(k), whatever the pool size
+            Set<Integer> picked = new LinkedHashSet<>(k * 2);
+            for (int j = size - k; j < size; j++) {
+                int t = random.nextInt(j + 1);
+                if (!picked.add(t)) {
+                    picked.add(j);
+                }
+            }
+            List<Long> sampled = new ArrayList<>(k);
+            for (int slot : picked) {
+                sampled.add(ids[slot]);
+            }
+            return sampled;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.job.portal.service;
 
 import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.dto.InterviewQuestionSearchHitDto;
 import com.job.portal.entity.InterviewQuestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,4 +28,9 @@ public interface InterviewQuestionService {
     Page<InterviewQuestionDto> searchByTag(String tag, Pageable pageable);
 
     Page<InterviewQuestionDto> search(String tag, InterviewQuestion.Difficulty difficulty, Pageable pageable);
+
+    Page<InterviewQuestionSearchHitDto> searchText(String query, String tag, InterviewQuestion.Difficulty difficulty,
+            Pageable pageable);
+
+    List<InterviewQuestionDto> practiceSet(String tag, InterviewQuestion.Difficulty difficulty, int size);
 }
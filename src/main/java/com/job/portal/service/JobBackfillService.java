@@ -0,0 +1,74 @@
+package com.job.portal.service;
+
+import com.job.portal.entity.Job;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.search.JobSearchEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * Fills derived job columns for rows stored before those columns existed: the parsed salary
+ * range and the combined posted_at timestamp. Runs once at startup in id-ordered batches, each
+ * in its own transaction; rows whose salary cannot be parsed stay null and are skipped, and rows
+ * without a created_date are dated today. posted_at is not null once this has run; listings
+ * and the keyset seek rely on that and skip a row until it is filled.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobBackfillService {
+
+    private final JobRepository jobRepository;
+    private final JobSearchEngine jobSearchEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void backfillOnStartup() {
+        int salaries = backfillSalaryRanges();
+        int postedAt = backfillPostedAt();
+        if (salaries > 0 || postedAt > 0) {
+            log.info("Backfilled salary range for {} jobs and posted_at for {} jobs", salaries, postedAt);
+        }
+    }
+
+    public int backfillSalaryRanges() {
+        return backfill(jobRepository::findTop500BySalaryIsNotNullAndSalaryMinIsNullAndIdGreaterThanOrderByIdAsc,
+                Job::refreshSalaryRange, job -> job.getSalaryMin() != null);
+    }
+
+    public int backfillPostedAt() {
+        return backfill(jobRepository::findTop500ByPostedAtIsNullAndIdGreaterThanOrderByIdAsc,
+                Job::fillPostedAt, job -> job.getPostedAt() != null);
+    }
+
+    private int backfill(LongFunction<List<Job>> nextBatch, Consumer<Job> derive, Predicate<Job> derived) {
+        int updated = 0;
+        long lastId = 0;
+        while (true) {
+            long after = lastId;
+            List<Job> batch = transactionTemplate.execute(status -> {
+                List<Job> jobs = nextBatch.apply(after);
+                jobs.forEach(derive);
+                return jobs;
+            });
+            if (batch == null || batch.isEmpty()) {
+                return updated;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            List<Job> changed = batch.stream().filter(derived).toList();
+            jobSearchEngine.indexAll(changed);
+            updated += changed.size();
+        }
+    }
+}
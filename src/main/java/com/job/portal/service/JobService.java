@@ -1,8 +1,12 @@
 package com.job.portal.service;
 
+import com.job.portal.dto.CursorPage;
 import com.job.portal.dto.JobDTO;
+import com.job.portal.dto.JobFacets;
 
 import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.dto.SliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,7 +14,7 @@ import java.util.List;
 import java.util.Map;
 
 public interface JobService {
-    List<JobDTO> getAllJobs();
+    List<JobSummaryDTO> getAllJobs(int page, int size);
 
     JobDTO getJobById(Long id);
 
@@ -18,21 +22,29 @@ public interface JobService {
 
     JobDTO saveJob(JobDTO job);
 
-    List<JobDTO> getJobsByExperience(String experience);
+    List<JobSummaryDTO> getJobsByExperience(String experience);
 
-    List<JobDTO> getLatestJobs();
+    List<JobSummaryDTO> getLatestJobs(int limit);
+
+    CursorPage<JobSummaryDTO> getLatestJobs(String cursor, int size);
 
     JobDTO getJobByTitle(String jobTitle);
 
     JobDTO getJobByTitleAndId(String jobTitle, Long id);
 
-    Page<JobDTO> searchJobs(JobSearchCriteria criteria, Pageable pageable);
+    Page<JobSummaryDTO> searchJobs(JobSearchCriteria criteria, Pageable pageable);
+
+    JobFacets getSearchFacets(JobSearchCriteria criteria);
+
+    CursorPage<JobSummaryDTO> searchJobs(JobSearchCriteria criteria, String cursor, int size);
+
+    SliceResponse<JobSummaryDTO> searchJobsSlice(JobSearchCriteria criteria, Pageable pageable, boolean approximateTotal);
 
     JobDTO updateJob(Long id, JobDTO jobDTO);
 
     void deleteJob(Long id);
 
-    List<JobDTO> getJobsByCompany(String company);
+    List<JobSummaryDTO> getJobsByCompany(String company);
 
     Map<String, Long> getJobStatsByType();
 
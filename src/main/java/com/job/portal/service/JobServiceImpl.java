@@ -1,27 +1,38 @@
 package com.job.portal.service;
 
+import com.job.portal.cache.JobCacheInvalidator;
+import com.job.portal.cache.JobSearchCache;
+import com.job.portal.cache.RefreshLoaders;
+import com.job.portal.dto.CursorPage;
 import com.job.portal.dto.JobDTO;
+import com.job.portal.dto.JobFacets;
 import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.dto.SliceResponse;
 import com.job.portal.entity.Job;
 import com.job.portal.exception.JobNotFoundException;
+import com.job.portal.mapper.JobMapper;
+import com.job.portal.pagination.JobCursor;
 import com.job.portal.repository.JobRepository;
+import com.job.portal.search.JobIdPage;
+import com.job.portal.search.JobSearchEngine;
+import com.job.portal.search.SearchCountEstimator;
 import com.job.portal.specification.JobSpecifications;
+import com.job.portal.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,35 +46,62 @@ public class JobServiceImpl implements JobService {
     private JobRepository jobRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private JobMapper jobMapper;
+
+    @Autowired
+    private JobSearchEngine jobSearchEngine;
+
+    @Autowired
+    private SearchCountEstimator searchCountEstimator;
+
+    @Autowired
+    private LatestJobsFeed latestJobsFeed;
+
+    @Autowired
+    private JobCacheInvalidator jobCacheInvalidator;
+
+    @Autowired
+    private RefreshLoaders refreshLoaders;
+
+    @Autowired
+    private JobSearchCache jobSearchCache;
+
+    // Background reloads for the hot entries that every page view reads
+    @PostConstruct
+    void registerRefreshLoaders() {
+        refreshLoaders.register("job_counts", key -> switch (String.valueOf(key)) {
+            case "total" -> countJobs();
+            case "byType" -> countJobsByType();
+            default -> null;
+        });
+        refreshLoaders.register("jobs_latest", key ->
+                key instanceof JobCacheInvalidator.ListingKey listing
+                        && listing.generation() == jobCacheInvalidator.listingGeneration()
+                        ? latestJobsPage(null, listing.size())
+                        : null);
+    }
 
     @Override
-    @Cacheable(value = "jobs", key = "'all_jobs'")
-    public List<JobDTO> getAllJobs() {
-        log.debug("Fetching all jobs...");
-        List<Job> jobs = jobRepository.findAll();
-        log.info("Total jobs fetched: {}", jobs.size());
-        return mapToDtoList(jobs);
+    @Cacheable(value = "jobs", key = "@jobCacheInvalidator.listingKey(#page, #size)", sync = true)
+    public List<JobSummaryDTO> getAllJobs(int page, int size) {
+        log.debug("Fetching jobs page {} of size {}", page, size);
+        List<JobSummaryDTO> jobs = jobRepository.findAllSummaries(PageRequest.of(page, size, JobCursor.ORDER)).getContent();
+        log.info("Fetched {} jobs for page {}", jobs.size(), page);
+        return jobs;
     }
 
     @Override
-    @Cacheable(value = "job", key = "#id")
+    @Cacheable(value = "job", key = "#id", sync = true)
     public JobDTO getJobById(Long id) {
         log.debug("Fetching job details for jobId: {}", id);
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new JobNotFoundException("Job not found for jobId: " + id));
         log.info("Job details fetched for jobId: {}", id);
-        JobDTO dto = modelMapper.map(job, JobDTO.class);
-        // Manually set createdAt from createdDate and createdTime
-        if (job.getCreatedDate() != null) {
-            LocalTime time = job.getCreatedTime() != null ? job.getCreatedTime() : LocalTime.MIDNIGHT;
-            dto.setCreatedAt(LocalDateTime.of(job.getCreatedDate(), time));
-        }
-        return dto;
+        return jobMapper.toDto(job);
     }
 
     @Override
-    @Cacheable(value = "job", key = "#jobTitle.toLowerCase()")
+    @Cacheable(value = "job", key = "#jobTitle.toLowerCase()", sync = true)
     public JobDTO getJobByTitle(String jobTitle) {
         List<Job> jobs = jobRepository.findByJobTitle(jobTitle);
         if (jobs.isEmpty()) {
@@ -74,113 +112,126 @@ public class JobServiceImpl implements JobService {
                     + ". Please use job ID or the combined title/ID endpoint instead.");
         }
         Job job = jobs.get(0);
-        JobDTO dto = modelMapper.map(job, JobDTO.class);
-        // Manually set createdAt from createdDate and createdTime
-        if (job.getCreatedDate() != null) {
-            LocalTime time = job.getCreatedTime() != null ? job.getCreatedTime() : LocalTime.MIDNIGHT;
-            dto.setCreatedAt(LocalDateTime.of(job.getCreatedDate(), time));
-        }
-        return dto;
+        return jobMapper.toDto(job);
     }
 
     @Override
-    @Cacheable(value = "job", key = "#jobTitle.toLowerCase() + '_' + #id")
+    @Cacheable(value = "job", key = "#jobTitle.toLowerCase() + '_' + #id", sync = true)
     public JobDTO getJobByTitleAndId(String jobTitle, Long id) {
         log.debug("Fetching job details for jobTitle: {} and jobId: {}", jobTitle, id);
         Job job = jobRepository.findByJobTitleAndId(jobTitle, id)
                 .orElseThrow(() -> new JobNotFoundException("Job not found for title: " + jobTitle + " and id: " + id));
         log.info("Job details fetched for jobTitle: {} and jobId: {}", jobTitle, id);
-        JobDTO dto = modelMapper.map(job, JobDTO.class);
-        // Manually set createdAt from createdDate and createdTime
-        if (job.getCreatedDate() != null) {
-            LocalTime time = job.getCreatedTime() != null ? job.getCreatedTime() : LocalTime.MIDNIGHT;
-            dto.setCreatedAt(LocalDateTime.of(job.getCreatedDate(), time));
-        }
-        return dto;
+        return jobMapper.toDto(job);
     }
 
     @Override
-    @Cacheable(value = "jobs_by_experience", key = "#experience.toLowerCase()")
-    public List<JobDTO> getJobsByExperience(String experience) {
+    @Cacheable(value = "jobs_by_experience", key = "#experience.toLowerCase()", sync = true)
+    public List<JobSummaryDTO> getJobsByExperience(String experience) {
         log.debug("Fetching jobs for experience: {}", experience);
-        List<Job> jobs = jobRepository.findByExperienceOrderByCreatedDateDescCreatedTimeDesc(experience);
+        List<JobSummaryDTO> jobs = jobRepository.findSummariesByExperience(experience);
         if (jobs.isEmpty()) {
             log.warn("No jobs found for experience: {}", experience);
             return List.of();
         }
         log.info("Jobs fetched for experience: {}", experience);
-        return mapToDtoList(jobs);
+        return jobs;
     }
 
     @Override
-    @Cacheable(value = "jobs_latest", key = "'latest_jobs'")
-    public List<JobDTO> getLatestJobs() {
-        log.debug("Fetching latest jobs...");
-        List<Job> jobs = jobRepository.findAllByOrderByCreatedDateAndCreatedTimeDesc();
-        if (jobs.isEmpty()) {
-            log.warn("No latest jobs found");
-        } else {
-            log.info("Fetched {} latest jobs", jobs.size());
-        }
-        return mapToDtoList(jobs);
+    public List<JobSummaryDTO> getLatestJobs(int limit) {
+        return latestJobsFeed.latest(null, limit).orElseGet(() -> {
+            log.debug("Fetching latest {} jobs from the database", limit);
+            return jobRepository.findAllSummaries(PageRequest.of(0, limit, JobCursor.ORDER)).getContent();
+        });
+    }
+
+    @Override
+    @Cacheable(value = "jobs_latest", key = "@jobCacheInvalidator.listingKey(0, #size)", condition = "#cursor == null || #cursor.isBlank()", sync = true)
+    public CursorPage<JobSummaryDTO> getLatestJobs(String cursor, int size) {
+        log.debug("Fetching latest jobs after cursor: {}", cursor);
+        return latestJobsPage(JobCursor.decode(cursor), size);
+    }
+
+    private CursorPage<JobSummaryDTO> latestJobsPage(JobCursor after, int size) {
+        // One extra row tells us whether another page exists; the feed answers while the page is within it
+        List<JobSummaryDTO> jobs = latestJobsFeed.latest(after, size + 1).orElseGet(() ->
+                jobRepository.findSummaries(JobSpecifications.seekAfter(after), JobCursor.ORDER, size + 1));
+        return toCursorPage(jobs, size);
     }
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "jobs", allEntries = true),
-
-            @CacheEvict(value = "jobs_latest", allEntries = true),
-            @CacheEvict(value = "jobs_search", allEntries = true),
-            @CacheEvict(value = "jobs_by_company", allEntries = true),
-            @CacheEvict(value = "job_counts", allEntries = true),
-            @CacheEvict(value = "job", allEntries = true)
-    })
     @Transactional
     public JobDTO saveJob(JobDTO jobDto) {
         log.debug("Saving job: {}", jobDto);
         if (jobDto.getCreatedAt() == null) {
             jobDto.setCreatedAt(LocalDateTime.now());
         }
-        Job jobEntity = modelMapper.map(jobDto, Job.class);
+        Job jobEntity = jobMapper.toEntity(jobDto);
         Job job = jobRepository.save(jobEntity);
         log.info("Job saved with id: {}", job.getId());
-        return modelMapper.map(job, JobDTO.class);
+        JobSummaryDTO summary = jobMapper.toSummary(job);
+        // Before the cache invalidation, so listings recomputed after it already see the job
+        AfterCommit.run(() -> {
+            jobSearchEngine.index(job);
+            latestJobsFeed.put(summary);
+        });
+        jobCacheInvalidator.jobCreated(job);
+        return jobMapper.toDto(job);
     }
 
     @Override
-    @Cacheable(value = "job_counts", key = "'total'")
+    @Cacheable(value = "job_counts", key = "'total'", sync = true)
     public long getJobCount() {
         log.debug("Fetching total job count...");
+        return countJobs();
+    }
+
+    private long countJobs() {
         long count = jobRepository.count();
         log.info("Total job count: {}", count);
         return count;
     }
 
     @Override
-    @Cacheable(value = "jobs_search", key = "T(java.util.Objects).hash(#criteria?.getKeyword(),#criteria?.getLocation(),#criteria?.getJobType(),#criteria?.getCompany(),#criteria?.getMinSalary(),#criteria?.getPostedFrom(),#criteria?.getPostedTo(),#pageable.pageNumber,#pageable.pageSize,#pageable.sort.toString())")
-    public Page<JobDTO> searchJobs(JobSearchCriteria criteria, Pageable pageable) {
+    public Page<JobSummaryDTO> searchJobs(JobSearchCriteria criteria, Pageable pageable) {
         log.debug("Searching jobs with criteria: {}", criteria);
-        Specification<Job> specification = JobSpecifications.build(criteria);
-        Page<Job> page = jobRepository.findAll(specification, pageable);
-        List<JobDTO> content = mapToDtoList(page.getContent());
-        return new PageImpl<>(content, pageable, page.getTotalElements());
+        JobIdPage ids = jobSearchCache.ids(criteria, pageable, () -> jobSearchEngine.searchIds(criteria, pageable));
+        return new PageImpl<>(jobSearchCache.summaries(ids.ids()), pageable, ids.total());
+    }
+
+    // Independent of the page, so one entry serves every page of the same search
+    @Override
+    @Cacheable(value = "jobs_search", key = "{'facets', @jobCacheInvalidator.searchGeneration(), #criteria}", sync = true)
+    public JobFacets getSearchFacets(JobSearchCriteria criteria) {
+        log.debug("Computing search facets for criteria: {}", criteria);
+        return jobSearchEngine.facets(criteria);
+    }
+
+    @Override
+    public SliceResponse<JobSummaryDTO> searchJobsSlice(JobSearchCriteria criteria, Pageable pageable, boolean approximateTotal) {
+        log.debug("Searching jobs without count with criteria: {}", criteria);
+        Slice<JobSummaryDTO> slice = jobSearchEngine.searchSlice(criteria, pageable);
+        Long total = approximateTotal ? searchCountEstimator.estimate(criteria) : null;
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                slice.hasNext(), total);
+    }
+
+    @Override
+    public CursorPage<JobSummaryDTO> searchJobs(JobSearchCriteria criteria, String cursor, int size) {
+        log.debug("Searching jobs with criteria: {} after cursor: {}", criteria, cursor);
+        // One extra row tells us whether another page exists without a count query
+        List<JobSummaryDTO> jobs = jobSearchEngine.searchAfter(criteria, JobCursor.decode(cursor), size + 1);
+        return toCursorPage(jobs, size);
     }
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "jobs", allEntries = true),
-
-            @CacheEvict(value = "jobs_latest", allEntries = true),
-            @CacheEvict(value = "jobs_search", allEntries = true),
-            @CacheEvict(value = "jobs_by_company", allEntries = true),
-            @CacheEvict(value = "job_counts", allEntries = true),
-            @CacheEvict(value = "job", key = "#id")
-    })
     @Transactional
     public JobDTO updateJob(Long id, JobDTO jobDTO) {
         log.debug("Updating job with id: {}", id);
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new JobNotFoundException("Job not found for jobId: " + id));
+        JobCacheInvalidator.JobKeys before = JobCacheInvalidator.JobKeys.of(job);
 
         job.setJobTitle(jobDTO.getJobTitle());
         job.setCompany(jobDTO.getCompany());
@@ -194,67 +245,56 @@ public class JobServiceImpl implements JobService {
         job.setJobType(jobDTO.getJobType());
 
         Job updated = jobRepository.save(job);
-        return modelMapper.map(updated, JobDTO.class);
+        JobSummaryDTO summary = jobMapper.toSummary(updated);
+        AfterCommit.run(() -> {
+            jobSearchEngine.index(updated);
+            latestJobsFeed.put(summary);
+        });
+        jobCacheInvalidator.jobUpdated(before, JobCacheInvalidator.JobKeys.of(updated));
+        return jobMapper.toDto(updated);
     }
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "jobs", allEntries = true),
-
-            @CacheEvict(value = "jobs_latest", allEntries = true),
-            @CacheEvict(value = "jobs_search", allEntries = true),
-            @CacheEvict(value = "jobs_by_company", allEntries = true),
-            @CacheEvict(value = "job_counts", allEntries = true),
-            @CacheEvict(value = "job", key = "#id")
-    })
     @Transactional
     public void deleteJob(Long id) {
         log.debug("Deleting job with id: {}", id);
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new JobNotFoundException("Job not found for jobId: " + id));
         jobRepository.delete(job);
+        AfterCommit.run(() -> {
+            jobSearchEngine.remove(id);
+            latestJobsFeed.remove(id);
+        });
+        jobCacheInvalidator.jobDeleted(JobCacheInvalidator.JobKeys.of(job));
         log.info("Deleted job with id: {}", id);
     }
 
     @Override
-    @Cacheable(value = "jobs_by_company", key = "#company.toLowerCase()")
-    public List<JobDTO> getJobsByCompany(String company) {
-        List<Job> jobs = jobRepository.findByCompanyIgnoreCase(company);
-        return mapToDtoList(jobs);
+    @Cacheable(value = "jobs_by_company", key = "#company.toLowerCase()", sync = true)
+    public List<JobSummaryDTO> getJobsByCompany(String company) {
+        return jobRepository.findSummariesByCompany(company);
     }
 
     @Override
-    @Cacheable(value = "job_counts", key = "'byType'")
+    @Cacheable(value = "job_counts", key = "'byType'", sync = true)
     public Map<String, Long> getJobStatsByType() {
+        return countJobsByType();
+    }
+
+    private Map<String, Long> countJobsByType() {
         return jobRepository.countJobsByType().stream()
                 .collect(Collectors.toMap(JobRepository.JobTypeCountProjection::getJobType,
                         JobRepository.JobTypeCountProjection::getCount));
     }
 
-    private List<JobDTO> mapToDtoList(List<Job> jobs) {
-        return jobs.stream()
-                .map(job -> {
-                    JobDTO dto = modelMapper.map(job, JobDTO.class);
-                    // Manually set createdAt from createdDate and createdTime
-                    if (job.getCreatedDate() != null) {
-                        LocalTime time = job.getCreatedTime() != null ? job.getCreatedTime() : LocalTime.MIDNIGHT;
-                        dto.setCreatedAt(LocalDateTime.of(job.getCreatedDate(), time));
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    private CursorPage<JobSummaryDTO> toCursorPage(List<JobSummaryDTO> jobs, int size) {
+        boolean hasNext = jobs.size() > size;
+        List<JobSummaryDTO> pageJobs = hasNext ? jobs.subList(0, size) : jobs;
+        String next = hasNext ? JobCursor.of(pageJobs.get(pageJobs.size() - 1)).encode() : null;
+        return new CursorPage<>(pageJobs, size, next);
     }
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "jobs", allEntries = true),
-
-            @CacheEvict(value = "jobs_latest", allEntries = true),
-            @CacheEvict(value = "jobs_search", allEntries = true),
-            @CacheEvict(value = "jobs_by_company", allEntries = true),
-            @CacheEvict(value = "job_counts", allEntries = true),
-            @CacheEvict(value = "job", allEntries = true)
-    })
     @Transactional
     public List<JobDTO> saveAllJobs(List<JobDTO> jobDTOs) {
         log.debug("Saving batch of {} jobs", jobDTOs.size());
@@ -262,11 +302,17 @@ public class JobServiceImpl implements JobService {
             if (jobDto.getCreatedAt() == null) {
                 jobDto.setCreatedAt(LocalDateTime.now());
             }
-            return modelMapper.map(jobDto, Job.class);
+            return jobMapper.toEntity(jobDto);
         }).collect(Collectors.toList());
 
         List<Job> savedJobs = jobRepository.saveAll(jobs);
         log.info("Batch saved {} jobs", savedJobs.size());
-        return mapToDtoList(savedJobs);
+        List<JobSummaryDTO> summaries = savedJobs.stream().map(jobMapper::toSummary).toList();
+        AfterCommit.run(() -> {
+            jobSearchEngine.indexAll(savedJobs);
+            latestJobsFeed.putAll(summaries);
+        });
+        jobCacheInvalidator.jobsCreated(JobCacheInvalidator.JobKeys.of(savedJobs));
+        return jobMapper.toDtoList(savedJobs);
     }
 }
@@ -0,0 +1,175 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.pagination.JobCursor;
+import com.job.portal.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The newest {@code capacity} jobs kept in memory in {@link JobCursor#ORDER}, so the homepage
+ * feed and the first pages of {@code /api/jobs/latest} are answered without a query. Loaded once
+ * at startup and then maintained by the job write paths; readers get an immutable snapshot.
+ * <p>
+ * A read the feed cannot fully answer (feed not loaded yet, or the page runs past the newest
+ * {@code capacity} jobs) returns empty and the caller goes to the database.
+ */
+@Component
+@Slf4j
+public class LatestJobsFeed {
+
+    private static final Comparator<JobSummaryDTO> NEWEST_FIRST = Comparator
+            .comparing(JobSummaryDTO::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(JobSummaryDTO::getId, Comparator.nullsLast(Comparator.<Long>reverseOrder()));
+
+    private final JobRepository jobRepository;
+    private final int capacity;
+
+    private volatile List<JobSummaryDTO> snapshot = List.of();
+    // True while the snapshot holds every job in the table, so short reads are still complete
+    private volatile boolean complete;
+    private volatile boolean ready;
+    // Set when a delete shrank a truncated feed; the next read reloads it
+    private volatile boolean stale;
+    // First pages built from the current snapshot, so repeated reads return the same list instance
+    private volatile FirstPages firstPages = new FirstPages(List.of(), new ConcurrentHashMap<>());
+
+    public LatestJobsFeed(JobRepository jobRepository,
+                          @Value("${app.jobs.latest-feed.capacity:200}") int capacity) {
+        this.jobRepository = jobRepository;
+        this.capacity = capacity;
+    }
+
+    // Runs after the posted_at backfill so older rows are ordered correctly
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        List<JobSummaryDTO> jobs = List.copyOf(
+                jobRepository.findAllSummaries(PageRequest.of(0, capacity, JobCursor.ORDER)).getContent());
+        snapshot = jobs;
+        complete = jobs.size() < capacity;
+        stale = false;
+        ready = true;
+        log.info("Latest jobs feed loaded with {} jobs", jobs.size());
+    }
+
+    /**
+     * Up to {@code limit} jobs following {@code after} (null for the newest), or empty if the
+     * feed cannot tell whether older jobs would belong on the page.
+     */
+    public Optional<List<JobSummaryDTO>> latest(JobCursor after, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        if (stale) {
+            reload();
+        }
+        List<JobSummaryDTO> current = snapshot;
+        if (after != null) {
+            return page(current, after, limit);
+        }
+        FirstPages memo = firstPages;
+        if (memo.snapshot() != current) {
+            memo = new FirstPages(current, new ConcurrentHashMap<>());
+            firstPages = memo;
+        }
+        List<JobSummaryDTO> cached = memo.pages().get(limit);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<List<JobSummaryDTO>> page = page(current, null, limit);
+        if (page.isPresent()) {
+            List<JobSummaryDTO> existing = memo.pages().putIfAbsent(limit, page.get());
+            return existing != null ? Optional.of(existing) : page;
+        }
+        return page;
+    }
+
+    private Optional<List<JobSummaryDTO>> page(List<JobSummaryDTO> current, JobCursor after, int limit) {
+        List<JobSummaryDTO> page = new ArrayList<>(Math.min(limit, current.size()));
+        for (JobSummaryDTO job : current) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (after == null || after.isFollowedBy(job.getCreatedAt(), job.getId())) {
+                page.add(job);
+            }
+        }
+        if (page.size() < limit && !complete) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(page));
+    }
+
+    public void put(JobSummaryDTO job) {
+        putAll(List.of(job));
+    }
+
+    /**
+     * Inserts new jobs and replaces updated ones, keeping only the newest {@code capacity}.
+     * <p>
+     * In a truncated feed, a job that now sorts after the previous tail is dropped rather than
+     * kept: the jobs between the tail and it are not in memory, so keeping it would serve it in
+     * their place.
+     */
+    public synchronized void putAll(Collection<JobSummaryDTO> jobs) {
+        if (!ready || jobs.isEmpty()) {
+            return;
+        }
+        List<JobSummaryDTO> current = snapshot;
+        JobSummaryDTO tail = complete || current.isEmpty() ? null : current.get(current.size() - 1);
+        Set<Long> ids = jobs.stream().map(JobSummaryDTO::getId).collect(Collectors.toSet());
+        List<JobSummaryDTO> next = new ArrayList<>(current.size() + jobs.size());
+        for (JobSummaryDTO existing : current) {
+            if (!ids.contains(existing.getId())) {
+                next.add(existing);
+            }
+        }
+        for (JobSummaryDTO job : jobs) {
+            if (tail == null || NEWEST_FIRST.compare(job, tail) <= 0) {
+                next.add(job);
+            }
+        }
+        next.sort(NEWEST_FIRST);
+        if (next.size() > capacity) {
+            next = next.subList(0, capacity);
+            complete = false;
+        }
+        snapshot = List.copyOf(next);
+    }
+
+    public synchronized void remove(Long id) {
+        if (!ready) {
+            return;
+        }
+        List<JobSummaryDTO> next = snapshot.stream().filter(job -> !job.getId().equals(id)).toList();
+        if (next.size() != snapshot.size()) {
+            snapshot = next;
+            // The next older job is not in memory; fetch it lazily rather than on the write path
+            stale = !complete;
+        }
+    }
+
+    private record FirstPages(List<JobSummaryDTO> snapshot, Map<Integer, List<JobSummaryDTO>> pages) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.QuizDto;
+import com.job.portal.dto.QuizPaperDto;
+import com.job.portal.dto.QuizQuestionDto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * What attempts at one quiz need, computed once and cached: the paper served to takers and the
+ * answer key submissions are scored against.
+ *
+ * @param paper   the questions without their answers
+ * @param answers answer key per question id, in question order
+ */
+public record PreparedQuiz(QuizPaperDto paper, Map<Long, Answer> answers) {
+
+    public static PreparedQuiz of(QuizDto quiz, QuizPaperDto paper) {
+        Map<Long, Answer> answers = new LinkedHashMap<>();
+        if (quiz.getQuestions() != null) {
+            for (QuizQuestionDto question : quiz.getQuestions()) {
+                answers.put(question.getId(), Answer.of(question.getCorrectAnswer(), question.getOptions()));
+            }
+        }
+        return new PreparedQuiz(paper, Collections.unmodifiableMap(answers));
+    }
+
+    /**
+     * The stored correct answer resolved to one option. A submission may name that option by its
+     * text or by its zero-based index; a numeric submission that is the text of one option and
+     * the index of another is ambiguous and never matches.
+     *
+     * @param correctAnswer the answer as stored, returned with results
+     * @param options       normalized option texts, empty for a free-text question
+     * @param index         the correct option, or -1 when the key names no option
+     */
+    public record Answer(String correctAnswer, List<String> options, int index) {
+
+        // The stored key may hold the option text or its index; text wins when it reads as both
+        static Answer of(String correctAnswer, List<String> options) {
+            List<String> normalized = options == null ? List.of()
+                    : options.stream().map(PreparedQuiz::normalize).toList();
+            String correct = normalize(correctAnswer);
+            int byText = correct == null ? -1 : normalized.indexOf(correct);
+            int index = byText >= 0 ? byText : indexOf(correct, normalized.size());
+            return new Answer(correctAnswer, normalized, index);
+        }
+
+        public boolean matches(String answer) {
+            String normalized = normalize(answer);
+            if (normalized == null) {
+                return false;
+            }
+            if (options.isEmpty()) {
+                return normalized.equals(normalize(correctAnswer));
+            }
+            int byText = options.indexOf(normalized);
+            int byIndex = indexOf(normalized, options.size());
+            if (byText >= 0 && byIndex >= 0 && byText != byIndex) {
+                return false;
+            }
+            int chosen = byText >= 0 ? byText : byIndex;
+            return chosen >= 0 && chosen == index;
+        }
+
+        private static int indexOf(String value, int optionCount) {
+            if (value == null || !value.chars().allMatch(Character::isDigit)) {
+                return -1;
+            }
+            try {
+                int index = Integer.parseInt(value);
+                return index < optionCount ? index : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.QuizAttemptResultDto;
+import com.job.portal.dto.QuizPaperDto;
+import com.job.portal.dto.QuizSubmissionDto;
+
+public interface QuizAttemptService {
+
+    QuizPaperDto getPaper(Long quizId);
+
+    QuizAttemptResultDto submit(Long quizId, String userEmail, QuizSubmissionDto submission);
+}
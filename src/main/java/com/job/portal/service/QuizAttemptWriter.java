@@ -0,0 +1,125 @@
+package com.job.portal.service;
+
+import com.job.portal.entity.QuizAttempt;
+import com.job.portal.repository.QuizAttemptRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind queue for quiz attempts. Submissions are queued and saved in batches by one
+ * background thread, so a burst during a live quiz becomes a few batched inserts instead of a
+ * transaction per submission.
+ * <p>
+ * A batch is written when it fills up or when the flush interval passes, whichever comes first.
+ * If the queue is full the attempt is saved on the caller's thread instead of being dropped.
+ * When a batch fails to save, its attempts are retried one by one so only the bad ones are lost.
+ * Queued attempts are flushed on shutdown; a crash loses at most the attempts still queued.
+ */
+@Component
+@Slf4j
+public class QuizAttemptWriter {
+
+    private final QuizAttemptRepository repository;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final BlockingQueue<QuizAttempt> queue;
+    private final AtomicLong failed = new AtomicLong();
+    private ScheduledExecutorService flusher;
+
+    public QuizAttemptWriter(QuizAttemptRepository repository,
+                             @Value("${app.quiz.attempts.batch-size:100}") int batchSize,
+                             @Value("${app.quiz.attempts.flush-interval:PT1S}") Duration flushInterval,
+                             @Value("${app.quiz.attempts.queue-capacity:10000}") int queueCapacity) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("quiz-attempt-writer").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void submit(QuizAttempt attempt) {
+        if (!queue.offer(attempt)) {
+            log.warn("Quiz attempt queue is full; saving attempt for quiz {} directly", attempt.getQuizId());
+            repository.save(attempt);
+            return;
+        }
+        if (queue.size() >= batchSize && flusher != null) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; stop() flushes what is queued
+            }
+        }
+    }
+
+    /**
+     * Saves everything queued so far, one batch at a time.
+     */
+    public synchronized void flush() {
+        List<QuizAttempt> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                repository.saveAll(batch);
+                log.debug("Saved {} quiz attempts", batch.size());
+            } catch (RuntimeException e) {
+                log.warn("Failed to save {} quiz attempts as a batch, retrying one by one: {}",
+                        batch.size(), e.getMessage());
+                saveEach(batch);
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void saveEach(List<QuizAttempt> batch) {
+        for (QuizAttempt attempt : batch) {
+            try {
+                repository.save(attempt);
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("Failed to save quiz attempt for quiz {} by {}", attempt.getQuizId(),
+                        attempt.getUserEmail(), e);
+            }
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Attempts lost because they could not be saved, even on their own.
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+}
@@ -14,6 +14,8 @@ public interface QuizService {
 
     QuizDto getById(Long id);
 
+    PreparedQuiz getPreparedQuiz(Long id);
+
     Page<QuizDto> getAll(Pageable pageable);
 
     Page<QuizDto> getByJobId(Long jobId, Pageable pageable);
@@ -0,0 +1,299 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.TagDto;
+import com.job.portal.entity.Tag;
+import com.job.portal.repository.InterviewQuestionRepository;
+import com.job.portal.repository.LearningResourceRepository;
+import com.job.portal.repository.QuizRepository;
+import com.job.portal.repository.TagEntryProjection;
+import com.job.portal.repository.TagRepository;
+import com.job.portal.search.PrefixTrie;
+import com.job.portal.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Every tag in use across quizzes, interview questions and learning resources, with a stable id
+ * from the {@code tags} table and a usage count per content type. Serves typeahead suggestions
+ * from a {@link PrefixTrie} over each word of every tag name, so "boot" also finds "spring boot".
+ * <p>
+ * Counts are loaded at startup from the tag collection tables and then maintained by the write
+ * paths of each content type, which report the current tags of every row they save or delete;
+ * reports are applied once the reporting transaction commits. A tag seen for the first time is
+ * inserted then, in its own transaction. Until the first load finishes, suggestions are empty.
+ */
+@Component
+@Slf4j
+public class TagCatalog {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern WORD_BREAK = Pattern.compile("[\\s\\-_./]+");
+    private static final Comparator<TagEntry> MOST_USED = Comparator
+            .comparingInt(TagEntry::total).reversed()
+            .thenComparing(TagEntry::name);
+
+    private final TagRepository tagRepository;
+    private final QuizRepository quizRepository;
+    private final InterviewQuestionRepository interviewQuestionRepository;
+    private final LearningResourceRepository learningResourceRepository;
+    private final TransactionTemplate newTransaction;
+
+    // Replaced whole by reload; new tags are added to the current one without the lock
+    private volatile Entries entries = Entries.empty();
+    // Writer-side state, guarded by this: tag ids of each content row
+    private Map<Tag.ContentType, Map<Long, Set<Long>>> usages = new EnumMap<>(Tag.ContentType.class);
+    private volatile boolean ready;
+
+    public TagCatalog(TagRepository tagRepository, QuizRepository quizRepository,
+                      InterviewQuestionRepository interviewQuestionRepository,
+                      LearningResourceRepository learningResourceRepository,
+                      PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.quizRepository = quizRepository;
+        this.interviewQuestionRepository = interviewQuestionRepository;
+        this.learningResourceRepository = learningResourceRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        Entries loaded = Entries.empty();
+        Map<Tag.ContentType, Map<Long, Set<Long>>> loadedUsages = new EnumMap<>(Tag.ContentType.class);
+        for (Tag tag : tagRepository.findAll()) {
+            register(loaded, tag);
+        }
+        load(loaded, loadedUsages, Tag.ContentType.QUIZ, quizRepository::findTagEntries);
+        load(loaded, loadedUsages, Tag.ContentType.INTERVIEW_QUESTION, interviewQuestionRepository::findTagEntries);
+        load(loaded, loadedUsages, Tag.ContentType.LEARNING_RESOURCE, learningResourceRepository::findTagEntries);
+        entries = loaded;
+        usages = loadedUsages;
+        ready = true;
+        log.info("Tag catalog loaded with {} tags in {} ms", loaded.byId().size(), System.currentTimeMillis() - start);
+    }
+
+    private void load(Entries into, Map<Tag.ContentType, Map<Long, Set<Long>>> usages, Tag.ContentType type,
+                      Supplier<List<TagEntryProjection>> rows) {
+        Map<Long, Set<Long>> byContent = usages.computeIfAbsent(type, t -> new HashMap<>());
+        for (TagEntryProjection row : rows.get()) {
+            TagEntry tag = tagFor(into, row.getTag());
+            if (tag != null && byContent.computeIfAbsent(row.getId(), id -> new HashSet<>()).add(tag.id())) {
+                tag.counts().incrementAndGet(type.ordinal());
+            }
+        }
+    }
+
+    /**
+     * Records the current tags of a content row once the surrounding transaction commits,
+     * adjusting counts by the difference to what it had before.
+     */
+    public void put(Tag.ContentType type, Long id, Collection<String> tagNames) {
+        if (id == null) {
+            return;
+        }
+        List<String> names = tagNames == null ? List.of() : new ArrayList<>(tagNames);
+        AfterCommit.run(() -> apply(type, id, names));
+    }
+
+    public void remove(Tag.ContentType type, Long id) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> apply(type, id, List.of()));
+    }
+
+    // New tags are inserted before taking the lock, so no thread waits for it while holding a connection
+    private void apply(Tag.ContentType type, Long id, List<String> tagNames) {
+        Entries current = entries;
+        Set<Long> tagIds = new HashSet<>();
+        for (String name : tagNames) {
+            TagEntry tag = tagFor(current, name);
+            if (tag != null) {
+                tagIds.add(tag.id());
+            }
+        }
+        synchronized (this) {
+            if (!ready) {
+                return;
+            }
+            Map<Long, Set<Long>> byContent = usages.computeIfAbsent(type, t -> new HashMap<>());
+            Set<Long> previous = tagIds.isEmpty() ? byContent.remove(id) : byContent.put(id, tagIds);
+            adjust(type, previous, tagIds);
+        }
+    }
+
+    /**
+     * Tags in use with a word starting with {@code query}, most used first.
+     */
+    public List<TagDto> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix == null) {
+            return popular(null, limit);
+        }
+        Entries current = entries;
+        return current.trie().find(prefix).stream()
+                .map(current.byId()::get)
+                .filter(tag -> tag != null && tag.total() > 0)
+                .sorted(MOST_USED)
+                .limit(limit)
+                .map(TagEntry::toDto)
+                .toList();
+    }
+
+    /**
+     * The most used tags of one content type, or of all of them when {@code type} is null.
+     */
+    public List<TagDto> popular(Tag.ContentType type, int limit) {
+        Comparator<TagEntry> order = type == null ? MOST_USED : Comparator
+                .comparingInt((TagEntry tag) -> tag.counts().get(type.ordinal())).reversed()
+                .thenComparing(TagEntry::name);
+        return entries.byId().values().stream()
+                .filter(tag -> type == null ? tag.total() > 0 : tag.counts().get(type.ordinal()) > 0)
+                .sorted(order)
+                .limit(limit)
+                .map(TagEntry::toDto)
+                .toList();
+    }
+
+    public static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(name.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // A tag missing from the current entries was registered in ones a reload has since replaced
+    private void adjust(Tag.ContentType type, Set<Long> previous, Set<Long> current) {
+        Map<Long, TagEntry> byId = entries.byId();
+        if (previous != null) {
+            for (Long tagId : previous) {
+                TagEntry tag = byId.get(tagId);
+                if (tag != null && !current.contains(tagId)) {
+                    tag.counts().decrementAndGet(type.ordinal());
+                }
+            }
+        }
+        for (Long tagId : current) {
+            TagEntry tag = byId.get(tagId);
+            if (tag != null && (previous == null || !previous.contains(tagId))) {
+                tag.counts().incrementAndGet(type.ordinal());
+            }
+        }
+    }
+
+    // The catalog entry of a tag name, inserting the tag if it is new. A tag that cannot be inserted
+    // is logged and left out of the catalog: this runs at startup and in after-commit callbacks,
+    // where throwing would stop the app or fail a write that has already committed
+    private TagEntry tagFor(Entries into, String rawName) {
+        String name = normalize(rawName);
+        if (name == null) {
+            return null;
+        }
+        TagEntry existing = into.byName().get(name);
+        if (existing != null) {
+            return existing;
+        }
+        Tag tag;
+        try {
+            tag = newTransaction.execute(status -> tagRepository.save(new Tag(null, name, rawName.trim())));
+        } catch (DataIntegrityViolationException e) {
+            // Inserted concurrently by another thread or instance, or a value the table does not accept
+            tag = findByName(name);
+            if (tag == null) {
+                log.warn("Tag '{}' could not be added to the catalog: {}", name, e.getMessage());
+                return null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tag '{}' could not be added to the catalog: {}", name, e.getMessage());
+            return null;
+        }
+        return register(into, tag);
+    }
+
+    private Tag findByName(String name) {
+        try {
+            return tagRepository.findByName(name).orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private TagEntry register(Entries into, Tag tag) {
+        TagEntry entry = new TagEntry(tag.getId(), tag.getName(), tag.getDisplayName(),
+                new AtomicIntegerArray(Tag.ContentType.values().length));
+        TagEntry existing = into.byName().putIfAbsent(entry.name(), entry);
+        if (existing != null) {
+            return existing;
+        }
+        into.byId().put(entry.id(), entry);
+        for (String key : keys(entry.name())) {
+            into.trie().put(key, entry.id());
+        }
+        return entry;
+    }
+
+    // The whole name and every suffix that starts a word
+    private static List<String> keys(String name) {
+        List<String> keys = new ArrayList<>();
+        keys.add(name);
+        var breaks = WORD_BREAK.matcher(name);
+        while (breaks.find()) {
+            if (breaks.end() < name.length()) {
+                keys.add(name.substring(breaks.end()));
+            }
+        }
+        return keys;
+    }
+
+    private record Entries(Map<Long, TagEntry> byId, Map<String, TagEntry> byName, PrefixTrie trie) {
+
+        static Entries empty() {
+            return new Entries(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new PrefixTrie());
+        }
+    }
+
+    private record TagEntry(Long id, String name, String displayName, AtomicIntegerArray counts) {
+
+        int total() {
+            int total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            return total;
+        }
+
+        TagDto toDto() {
+            Map<Tag.ContentType, Integer> byType = new EnumMap<>(Tag.ContentType.class);
+            for (Tag.ContentType type : Tag.ContentType.values()) {
+                byType.put(type, counts.get(type.ordinal()));
+            }
+            return new TagDto(id, name, displayName, byType, total());
+        }
+    }
+}
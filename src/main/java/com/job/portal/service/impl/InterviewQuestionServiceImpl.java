@@ -1,21 +1,35 @@
 package com.job.portal.service.impl;
 
+import com.job.portal.cache.ContentCacheInvalidator;
 import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.dto.InterviewQuestionSearchHitDto;
 import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.entity.Tag;
 import com.job.portal.exception.ResourceNotFoundException;
+import com.job.portal.mapper.InterviewQuestionMapper;
 import com.job.portal.repository.InterviewQuestionRepository;
+import com.job.portal.search.Highlighter;
+import com.job.portal.search.InterviewQuestionIndex;
+import com.job.portal.search.InvertedIndex;
+import com.job.portal.service.InterviewQuestionPools;
 import com.job.portal.service.InterviewQuestionService;
+import com.job.portal.service.TagCatalog;
+import com.job.portal.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,16 +37,30 @@ import java.util.stream.Collectors;
 @Slf4j
 public class InterviewQuestionServiceImpl implements InterviewQuestionService {
 
+    private static final int HIGHLIGHT_LENGTH = 200;
+
     private final InterviewQuestionRepository repository;
-    private final ModelMapper modelMapper;
+    private final InterviewQuestionMapper interviewQuestionMapper;
+    private final InterviewQuestionPools pools;
+    private final InterviewQuestionIndex index;
+    private final TagCatalog tagCatalog;
+    private final CacheManager cacheManager;
+    private final ContentCacheInvalidator contentCacheInvalidator;
 
     @Override
     @Transactional
     public InterviewQuestionDto create(InterviewQuestionDto dto) {
         log.info("Creating interview question: {}", dto.getQuestion());
-        InterviewQuestion entity = modelMapper.map(dto, InterviewQuestion.class);
+        InterviewQuestion entity = interviewQuestionMapper.toEntity(dto);
         InterviewQuestion saved = repository.save(entity);
-        return convertToDto(saved);
+        InterviewQuestionDto created = interviewQuestionMapper.toDto(saved);
+        AfterCommit.run(() -> {
+            pools.put(created);
+            index.index(created);
+        });
+        tagCatalog.put(Tag.ContentType.INTERVIEW_QUESTION, created.getId(), created.getTags());
+        contentCacheInvalidator.created(created.getId(), "interview_questions");
+        return created;
     }
 
     @Override
@@ -40,17 +68,24 @@ public class InterviewQuestionServiceImpl implements InterviewQuestionService {
     public List<InterviewQuestionDto> createBatch(List<InterviewQuestionDto> dtos) {
         log.info("Batch creating {} interview questions", dtos.size());
         List<InterviewQuestion> entities = dtos.stream()
-                .map(dto -> modelMapper.map(dto, InterviewQuestion.class))
+                .map(interviewQuestionMapper::toEntity)
                 .collect(Collectors.toList());
         List<InterviewQuestion> saved = repository.saveAll(entities);
-        return saved.stream()
-                .map(this::convertToDto)
+        List<InterviewQuestionDto> created = saved.stream()
+                .map(interviewQuestionMapper::toDto)
                 .collect(Collectors.toList());
+        AfterCommit.run(() -> {
+            pools.putAll(created);
+            index.indexAll(created);
+        });
+        created.forEach(question ->
+                tagCatalog.put(Tag.ContentType.INTERVIEW_QUESTION, question.getId(), question.getTags()));
+        contentCacheInvalidator.batchCreated("interview_questions");
+        return created;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "interview_questions", key = "#id")
     public InterviewQuestionDto update(Long id, InterviewQuestionDto dto) {
         log.info("Updating interview question with id: {}", id);
         InterviewQuestion existing = repository.findById(id)
@@ -63,28 +98,40 @@ public class InterviewQuestionServiceImpl implements InterviewQuestionService {
         existing.setJobId(dto.getJobId());
 
         InterviewQuestion updated = repository.save(existing);
-        return convertToDto(updated);
+        InterviewQuestionDto result = interviewQuestionMapper.toDto(updated);
+        AfterCommit.run(() -> {
+            pools.put(result);
+            index.index(result);
+        });
+        tagCatalog.put(Tag.ContentType.INTERVIEW_QUESTION, id, result.getTags());
+        contentCacheInvalidator.changed(id, "interview_questions");
+        return result;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "interview_questions", key = "#id")
     public void delete(Long id) {
         log.info("Deleting interview question with id: {}", id);
         if (!repository.existsById(id)) {
             throw new ResourceNotFoundException("InterviewQuestion", "id", id);
         }
         repository.deleteById(id);
+        AfterCommit.run(() -> {
+            pools.remove(id);
+            index.remove(id);
+        });
+        tagCatalog.remove(Tag.ContentType.INTERVIEW_QUESTION, id);
+        contentCacheInvalidator.changed(id, "interview_questions");
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "interview_questions", key = "#id")
+    @Cacheable(value = "interview_questions", key = "#id", sync = true)
     public InterviewQuestionDto getById(Long id) {
         log.info("Fetching interview question with id: {}", id);
         InterviewQuestion entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("InterviewQuestion", "id", id));
-        return convertToDto(entity);
+        return interviewQuestionMapper.toDto(entity);
     }
 
     @Override
@@ -92,28 +139,28 @@ public class InterviewQuestionServiceImpl implements InterviewQuestionService {
     public Page<InterviewQuestionDto> getAll(Pageable pageable) {
         log.debug("Fetching all interview questions");
         return repository.findAll(pageable)
-                .map(entity -> modelMapper.map(entity, InterviewQuestionDto.class));
+                .map(interviewQuestionMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<InterviewQuestionDto> getByDifficulty(InterviewQuestion.Difficulty difficulty, Pageable pageable) {
         return repository.findByDifficulty(difficulty, pageable)
-                .map(entity -> modelMapper.map(entity, InterviewQuestionDto.class));
+                .map(interviewQuestionMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<InterviewQuestionDto> getByJobId(Long jobId, Pageable pageable) {
         return repository.findByJobId(jobId, pageable)
-                .map(entity -> modelMapper.map(entity, InterviewQuestionDto.class));
+                .map(interviewQuestionMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<InterviewQuestionDto> searchByTag(String tag, Pageable pageable) {
         return repository.findByTagsContaining(tag, pageable)
-                .map(entity -> modelMapper.map(entity, InterviewQuestionDto.class));
+                .map(interviewQuestionMapper::toDto);
     }
 
     @Override
@@ -132,14 +179,72 @@ public class InterviewQuestionServiceImpl implements InterviewQuestionService {
             result = repository.findAll(pageable);
         }
 
-        return result.map(this::convertToDto);
+        return result.map(interviewQuestionMapper::toDto);
     }
 
-    private InterviewQuestionDto convertToDto(InterviewQuestion entity) {
-        InterviewQuestionDto dto = modelMapper.map(entity, InterviewQuestionDto.class);
-        if (entity.getTags() != null) {
-            dto.setTags(entity.getTags().stream().collect(Collectors.toList()));
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InterviewQuestionSearchHitDto> searchText(String query, String tag,
+            InterviewQuestion.Difficulty difficulty, Pageable pageable) {
+        log.info("Full-text search of interview questions for: {} with tag: {} and difficulty: {}",
+                query, tag, difficulty);
+        InterviewQuestionIndex.Result result = index.search(query, tag, difficulty, pageable);
+        Map<Long, InterviewQuestionDto> questions = loadById(
+                result.hits().stream().map(InterviewQuestionIndex.Hit::id).toList());
+        List<String> terms = InvertedIndex.tokenize(query);
+        List<InterviewQuestionSearchHitDto> hits = new ArrayList<>(result.hits().size());
+        for (InterviewQuestionIndex.Hit hit : result.hits()) {
+            InterviewQuestionDto question = questions.get(hit.id());
+            if (question != null) {
+                hits.add(new InterviewQuestionSearchHitDto(question, hit.score(),
+                        Highlighter.highlight(question.getQuestion(), terms, HIGHLIGHT_LENGTH),
+                        Highlighter.highlight(question.getAnswer(), terms, HIGHLIGHT_LENGTH)));
+            }
+        }
+        return new PageImpl<>(hits, pageable, result.total());
+    }
+
+    /**
+     * Random questions sampled from the in-memory pools.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<InterviewQuestionDto> practiceSet(String tag, InterviewQuestion.Difficulty difficulty, int size) {
+        List<Long> ids = pools.sample(tag, difficulty, size);
+        Map<Long, InterviewQuestionDto> byId = loadById(ids);
+        List<InterviewQuestionDto> questions = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            InterviewQuestionDto question = byId.get(id);
+            if (question != null) {
+                questions.add(question);
+            }
+        }
+        return questions;
+    }
+
+    // Reads the per-id cache and loads all misses with one query. Misses are not written back: a put
+    // here could land after a concurrent update's eviction and keep the old question cached
+    private Map<Long, InterviewQuestionDto> loadById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Cache cache = cacheManager.getCache("interview_questions");
+        Map<Long, InterviewQuestionDto> byId = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            InterviewQuestionDto cached = cache != null ? cache.get(id, InterviewQuestionDto.class) : null;
+            if (cached != null) {
+                byId.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (InterviewQuestion entity : repository.findAllById(missing)) {
+                InterviewQuestionDto dto = interviewQuestionMapper.toDto(entity);
+                byId.put(dto.getId(), dto);
+            }
         }
-        return dto;
+        return byId;
     }
 }
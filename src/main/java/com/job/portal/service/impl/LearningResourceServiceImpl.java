@@ -1,14 +1,16 @@
 package com.job.portal.service.impl;
 
+import com.job.portal.cache.ContentCacheInvalidator;
 import com.job.portal.dto.LearningResourceDto;
 import com.job.portal.entity.LearningResource;
+import com.job.portal.entity.Tag;
 import com.job.portal.exception.ResourceNotFoundException;
+import com.job.portal.mapper.LearningResourceMapper;
 import com.job.portal.repository.LearningResourceRepository;
 import com.job.portal.service.LearningResourceService;
+import com.job.portal.service.TagCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,15 +26,20 @@ import java.util.stream.Collectors;
 public class LearningResourceServiceImpl implements LearningResourceService {
 
     private final LearningResourceRepository repository;
-    private final ModelMapper modelMapper;
+    private final LearningResourceMapper learningResourceMapper;
+    private final TagCatalog tagCatalog;
+    private final ContentCacheInvalidator contentCacheInvalidator;
 
     @Override
     @Transactional
     public LearningResourceDto create(LearningResourceDto dto) {
         log.info("Creating learning resource: {}", dto.getTitle());
-        LearningResource entity = modelMapper.map(dto, LearningResource.class);
+        LearningResource entity = learningResourceMapper.toEntity(dto);
         LearningResource saved = repository.save(entity);
-        return modelMapper.map(saved, LearningResourceDto.class);
+        LearningResourceDto created = learningResourceMapper.toDto(saved);
+        tagCatalog.put(Tag.ContentType.LEARNING_RESOURCE, created.getId(), created.getTags());
+        contentCacheInvalidator.created(created.getId(), "learning_resources");
+        return created;
     }
 
     @Override
@@ -40,17 +47,20 @@ public class LearningResourceServiceImpl implements LearningResourceService {
     public List<LearningResourceDto> createBatch(List<LearningResourceDto> dtos) {
         log.info("Batch creating {} learning resources", dtos.size());
         List<LearningResource> entities = dtos.stream()
-                .map(dto -> modelMapper.map(dto, LearningResource.class))
+                .map(learningResourceMapper::toEntity)
                 .collect(Collectors.toList());
         List<LearningResource> saved = repository.saveAll(entities);
-        return saved.stream()
-                .map(entity -> modelMapper.map(entity, LearningResourceDto.class))
+        List<LearningResourceDto> created = saved.stream()
+                .map(learningResourceMapper::toDto)
                 .collect(Collectors.toList());
+        created.forEach(resource ->
+                tagCatalog.put(Tag.ContentType.LEARNING_RESOURCE, resource.getId(), resource.getTags()));
+        contentCacheInvalidator.batchCreated("learning_resources");
+        return created;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "learning_resources", key = "#id")
     public LearningResourceDto update(Long id, LearningResourceDto dto) {
         log.info("Updating learning resource with id: {}", id);
         LearningResource existing = repository.findById(id)
@@ -71,53 +81,56 @@ public class LearningResourceServiceImpl implements LearningResourceService {
         }
 
         LearningResource updated = repository.save(existing);
-        return modelMapper.map(updated, LearningResourceDto.class);
+        tagCatalog.put(Tag.ContentType.LEARNING_RESOURCE, id, updated.getTags());
+        contentCacheInvalidator.changed(id, "learning_resources");
+        return learningResourceMapper.toDto(updated);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "learning_resources", key = "#id")
     public void delete(Long id) {
         if (!repository.existsById(id)) {
             throw new ResourceNotFoundException("LearningResource", "id", id);
         }
         repository.deleteById(id);
+        tagCatalog.remove(Tag.ContentType.LEARNING_RESOURCE, id);
+        contentCacheInvalidator.changed(id, "learning_resources");
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "learning_resources", key = "#id")
+    @Cacheable(value = "learning_resources", key = "#id", sync = true)
     public LearningResourceDto getById(Long id) {
         LearningResource entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("LearningResource", "id", id));
-        return modelMapper.map(entity, LearningResourceDto.class);
+        return learningResourceMapper.toDto(entity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LearningResourceDto> getAll(Pageable pageable) {
         return repository.findAll(pageable)
-                .map(entity -> modelMapper.map(entity, LearningResourceDto.class));
+                .map(learningResourceMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LearningResourceDto> getByType(LearningResource.ResourceType type, Pageable pageable) {
         return repository.findByType(type, pageable)
-                .map(entity -> modelMapper.map(entity, LearningResourceDto.class));
+                .map(learningResourceMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LearningResourceDto> getByJobId(Long jobId, Pageable pageable) {
         return repository.findByJobId(jobId, pageable)
-                .map(entity -> modelMapper.map(entity, LearningResourceDto.class));
+                .map(learningResourceMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LearningResourceDto> searchByTag(String tag, Pageable pageable) {
         return repository.findByTagsContaining(tag, pageable)
-                .map(entity -> modelMapper.map(entity, LearningResourceDto.class));
+                .map(learningResourceMapper::toDto);
     }
 }
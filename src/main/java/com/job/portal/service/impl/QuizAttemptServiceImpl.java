@@ -0,0 +1,62 @@
+package com.job.portal.service.impl;
+
+import com.job.portal.dto.QuizAttemptResultDto;
+import com.job.portal.dto.QuizPaperDto;
+import com.job.portal.dto.QuizQuestionResultDto;
+import com.job.portal.dto.QuizSubmissionDto;
+import com.job.portal.entity.QuizAttempt;
+import com.job.portal.service.PreparedQuiz;
+import com.job.portal.service.QuizAttemptService;
+import com.job.portal.service.QuizAttemptWriter;
+import com.job.portal.service.QuizService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAttemptServiceImpl implements QuizAttemptService {
+
+    private final QuizService quizService;
+    private final QuizAttemptWriter attemptWriter;
+
+    @Override
+    public QuizPaperDto getPaper(Long quizId) {
+        return quizService.getPreparedQuiz(quizId).paper();
+    }
+
+    @Override
+    public QuizAttemptResultDto submit(Long quizId, String userEmail, QuizSubmissionDto submission) {
+        PreparedQuiz quiz = quizService.getPreparedQuiz(quizId);
+        Map<Long, String> submitted = submission.getAnswers() != null ? submission.getAnswers() : Map.of();
+
+        // Answers to questions that are not part of the quiz are ignored
+        Map<Long, String> answers = new HashMap<>();
+        List<QuizQuestionResultDto> results = new ArrayList<>(quiz.answers().size());
+        int score = 0;
+        for (Map.Entry<Long, PreparedQuiz.Answer> question : quiz.answers().entrySet()) {
+            String answer = submitted.get(question.getKey());
+            boolean correct = question.getValue().matches(answer);
+            if (correct) {
+                score++;
+            }
+            if (answer != null) {
+                answers.put(question.getKey(), answer);
+            }
+            results.add(new QuizQuestionResultDto(question.getKey(), answer, correct,
+                    question.getValue().correctAnswer()));
+        }
+
+        LocalDateTime submittedAt = LocalDateTime.now();
+        attemptWriter.submit(new QuizAttempt(null, quizId, userEmail, score, results.size(), answers, submittedAt));
+        log.debug("Quiz {} attempt by {} scored {}/{}", quizId, userEmail, score, results.size());
+        return new QuizAttemptResultDto(quizId, score, results.size(), results, submittedAt);
+    }
+}
@@ -1,15 +1,18 @@
 package com.job.portal.service.impl;
 
+import com.job.portal.cache.ContentCacheInvalidator;
 import com.job.portal.dto.QuizDto;
 import com.job.portal.entity.Quiz;
 import com.job.portal.entity.QuizQuestion;
+import com.job.portal.entity.Tag;
 import com.job.portal.exception.ResourceNotFoundException;
+import com.job.portal.mapper.QuizMapper;
 import com.job.portal.repository.QuizRepository;
+import com.job.portal.service.PreparedQuiz;
 import com.job.portal.service.QuizService;
+import com.job.portal.service.TagCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,13 +28,15 @@ import java.util.stream.Collectors;
 public class QuizServiceImpl implements QuizService {
 
     private final QuizRepository repository;
-    private final ModelMapper modelMapper;
+    private final QuizMapper quizMapper;
+    private final TagCatalog tagCatalog;
+    private final ContentCacheInvalidator contentCacheInvalidator;
 
     @Override
     @Transactional
     public QuizDto create(QuizDto dto) {
         log.info("Creating quiz: {}", dto.getTitle());
-        Quiz entity = modelMapper.map(dto, Quiz.class);
+        Quiz entity = quizMapper.toEntity(dto);
         if (entity.getQuestions() != null) {
             entity.getQuestions().forEach(q -> {
                 q.setQuiz(entity);
@@ -41,7 +46,10 @@ public class QuizServiceImpl implements QuizService {
             });
         }
         Quiz saved = repository.save(entity);
-        return convertToDto(saved);
+        QuizDto created = quizMapper.toDto(saved);
+        tagCatalog.put(Tag.ContentType.QUIZ, created.getId(), created.getTags());
+        contentCacheInvalidator.created(created.getId(), "quizzes", "prepared_quizzes");
+        return created;
     }
 
     @Override
@@ -50,7 +58,7 @@ public class QuizServiceImpl implements QuizService {
         log.info("Batch creating {} quizzes", dtos.size());
         List<Quiz> entities = dtos.stream()
                 .map(dto -> {
-                    Quiz entity = modelMapper.map(dto, Quiz.class);
+                    Quiz entity = quizMapper.toEntity(dto);
                     if (entity.getQuestions() != null) {
                         entity.getQuestions().forEach(q -> {
                             q.setQuiz(entity);
@@ -63,14 +71,16 @@ public class QuizServiceImpl implements QuizService {
                 })
                 .collect(Collectors.toList());
         List<Quiz> saved = repository.saveAll(entities);
-        return saved.stream()
-                .map(this::convertToDto)
+        List<QuizDto> created = saved.stream()
+                .map(quizMapper::toDto)
                 .collect(Collectors.toList());
+        created.forEach(quiz -> tagCatalog.put(Tag.ContentType.QUIZ, quiz.getId(), quiz.getTags()));
+        contentCacheInvalidator.batchCreated("quizzes", "prepared_quizzes");
+        return created;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "quizzes", key = "#id")
     public QuizDto update(Long id, QuizDto dto) {
         log.info("Updating quiz with id: {}", id);
         Quiz existing = repository.findById(id)
@@ -83,59 +93,60 @@ public class QuizServiceImpl implements QuizService {
         existing.setJobId(dto.getJobId());
 
         Quiz updated = repository.save(existing);
-        return convertToDto(updated);
+        tagCatalog.put(Tag.ContentType.QUIZ, id, updated.getTags());
+        contentCacheInvalidator.changed(id, "quizzes", "prepared_quizzes");
+        return quizMapper.toDto(updated);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "quizzes", key = "#id")
     public void delete(Long id) {
         if (!repository.existsById(id)) {
             throw new ResourceNotFoundException("Quiz", "id", id);
         }
         repository.deleteById(id);
+        tagCatalog.remove(Tag.ContentType.QUIZ, id);
+        contentCacheInvalidator.changed(id, "quizzes", "prepared_quizzes");
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "quizzes", key = "#id")
+    @Cacheable(value = "quizzes", key = "#id", sync = true)
     public QuizDto getById(Long id) {
         Quiz entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
-        return convertToDto(entity);
+        return quizMapper.toDto(entity);
+    }
+
+    // Built from the cached quiz once, so submissions are scored without loading the quiz again
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "prepared_quizzes", key = "#id", sync = true)
+    public PreparedQuiz getPreparedQuiz(Long id) {
+        Quiz entity = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", id));
+        QuizDto quiz = quizMapper.toDto(entity);
+        return PreparedQuiz.of(quiz, quizMapper.toPaper(quiz));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<QuizDto> getAll(Pageable pageable) {
         return repository.findAll(pageable)
-                .map(this::convertToDto);
+                .map(quizMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<QuizDto> getByJobId(Long jobId, Pageable pageable) {
         return repository.findByJobId(jobId, pageable)
-                .map(this::convertToDto);
+                .map(quizMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<QuizDto> searchByTag(String tag, Pageable pageable) {
         return repository.findByTagsContaining(tag, pageable)
-                .map(this::convertToDto);
-    }
-
-    private QuizDto convertToDto(Quiz entity) {
-        QuizDto dto = modelMapper.map(entity, QuizDto.class);
-        if (entity.getTags() != null) {
-            dto.setTags(entity.getTags().stream().collect(Collectors.toList()));
-        }
-        if (entity.getQuestions() != null) {
-            // If the DTO has questions, we should map them too
-            // Note: This assumes QuizDto has a List<QuizQuestionDto>
-            // We just let ModelMapper handle the list element mapping but the outer collection is now initialized
-        }
-        return dto;
+                .map(quizMapper::toDto);
     }
 }
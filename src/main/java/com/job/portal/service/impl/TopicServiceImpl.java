@@ -1,13 +1,15 @@
 package com.job.portal.service.impl;
 
+import com.job.portal.cache.RefreshLoaders;
 import com.job.portal.dto.TopicDto;
 import com.job.portal.entity.Topic;
 import com.job.portal.exception.ResourceNotFoundException;
+import com.job.portal.mapper.TopicMapper;
 import com.job.portal.repository.TopicRepository;
 import com.job.portal.service.TopicService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -22,15 +24,24 @@ import java.util.stream.Collectors;
 public class TopicServiceImpl implements TopicService {
 
     private final TopicRepository repository;
-    private final ModelMapper modelMapper;
+    private final TopicMapper topicMapper;
+    private final RefreshLoaders refreshLoaders;
+
+    // Topics are on every page; keep them warm instead of reloading them when they expire
+    @PostConstruct
+    void registerRefreshLoader() {
+        refreshLoaders.register("topics", key -> "all".equals(key)
+                ? loadAll()
+                : repository.findById((String) key).map(topicMapper::toDto).orElse(null));
+    }
 
     @Override
     @Transactional
     @CacheEvict(value = "topics", allEntries = true)
     public TopicDto create(TopicDto dto) {
-        Topic entity = modelMapper.map(dto, Topic.class);
+        Topic entity = topicMapper.toEntity(dto);
         Topic saved = repository.save(entity);
-        return modelMapper.map(saved, TopicDto.class);
+        return topicMapper.toDto(saved);
     }
 
     @Override
@@ -38,11 +49,11 @@ public class TopicServiceImpl implements TopicService {
     @CacheEvict(value = "topics", allEntries = true)
     public List<TopicDto> createBatch(List<TopicDto> dtos) {
         List<Topic> entities = dtos.stream()
-                .map(dto -> modelMapper.map(dto, Topic.class))
+                .map(topicMapper::toEntity)
                 .collect(Collectors.toList());
         List<Topic> saved = repository.saveAll(entities);
         return saved.stream()
-                .map(entity -> modelMapper.map(entity, TopicDto.class))
+                .map(topicMapper::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -55,7 +66,7 @@ public class TopicServiceImpl implements TopicService {
         existing.setName(dto.getName());
         existing.setIcon(dto.getIcon());
         Topic updated = repository.save(existing);
-        return modelMapper.map(updated, TopicDto.class);
+        return topicMapper.toDto(updated);
     }
 
     @Override
@@ -70,19 +81,23 @@ public class TopicServiceImpl implements TopicService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topics", key = "#id")
+    @Cacheable(value = "topics", key = "#id", sync = true)
     public TopicDto getById(String id) {
         Topic entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Topic", "id", id));
-        return modelMapper.map(entity, TopicDto.class);
+        return topicMapper.toDto(entity);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topics", key = "'all'")
+    @Cacheable(value = "topics", key = "'all'", sync = true)
     public List<TopicDto> getAll() {
+        return loadAll();
+    }
+
+    private List<TopicDto> loadAll() {
         return repository.findAll().stream()
-                .map(entity -> modelMapper.map(entity, TopicDto.class))
+                .map(topicMapper::toDto)
                 .collect(Collectors.toList());
     }
 }
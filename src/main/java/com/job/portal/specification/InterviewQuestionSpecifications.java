@@ -0,0 +1,51 @@
+package com.job.portal.specification;
+
+import com.job.portal.entity.InterviewQuestion;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Locale;
+
+public final class InterviewQuestionSpecifications {
+
+    private InterviewQuestionSpecifications() {
+    }
+
+    /**
+     * Questions whose question or answer contains every term, optionally with the given tag
+     * (ignoring case) and difficulty. A LIKE scan, for when the full-text index is unavailable.
+     */
+    public static Specification<InterviewQuestion> containsAll(List<String> terms, String tag,
+                                                               InterviewQuestion.Difficulty difficulty) {
+        Specification<InterviewQuestion> spec = Specification.where(null);
+
+        for (String term : terms) {
+            String pattern = "%" + term.toLowerCase(Locale.ROOT) + "%";
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("question")), pattern),
+                    cb.like(cb.lower(root.get("answer")), pattern)));
+        }
+
+        if (tag != null && !tag.isBlank()) {
+            String tagKey = tag.trim().toLowerCase(Locale.ROOT);
+            // A subquery rather than a join, so a question is never counted once per tag
+            spec = spec.and((root, query, cb) -> {
+                Subquery<Long> tagged = query.subquery(Long.class);
+                Root<InterviewQuestion> question = tagged.from(InterviewQuestion.class);
+                Join<InterviewQuestion, String> tags = question.join("tags");
+                tagged.select(question.get("id"))
+                        .where(cb.equal(question, root), cb.equal(cb.lower(tags), tagKey));
+                return cb.exists(tagged);
+            });
+        }
+
+        if (difficulty != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("difficulty"), difficulty));
+        }
+
+        return spec;
+    }
+}
@@ -2,9 +2,12 @@ package com.job.portal.specification;
 
 import com.job.portal.dto.JobSearchCriteria;
 import com.job.portal.entity.Job;
+import com.job.portal.pagination.JobCursor;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
 
 public final class JobSpecifications {
 
@@ -42,21 +45,65 @@ public final class JobSpecifications {
             spec = spec.and((root, query, cb) -> cb.equal(cb.lower(root.get("company")), criteria.getCompany().toLowerCase()));
         }
 
-        if (criteria.getMinSalary() != null && !criteria.getMinSalary().isBlank()) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), criteria.getMinSalary()));
+        // Amounts are only comparable within one currency: with a salary bound or a currency, a job
+        // qualifies only in that currency, or with no stated currency when none is requested
+        String currency = salaryCurrency(criteria);
+        if (currency != null) {
+            spec = spec.and((root, query, cb) -> currency.isEmpty()
+                    ? cb.isNull(root.get("currency"))
+                    : cb.equal(root.get("currency"), currency));
+        }
+
+        // A job qualifies when its salary range overlaps the requested one
+        Long minSalary = criteria.getMinSalary();
+        if (minSalary != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salaryMax"), minSalary));
+        }
+
+        Long maxSalary = criteria.getMaxSalary();
+        if (maxSalary != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("salaryMin"), maxSalary));
         }
 
         LocalDate postedFrom = criteria.getPostedFrom();
         if (postedFrom != null) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdDate"), postedFrom));
+            LocalDateTime from = postedFrom.atStartOfDay();
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("postedAt"), from));
         }
 
         LocalDate postedTo = criteria.getPostedTo();
         if (postedTo != null) {
-            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("createdDate"), postedTo));
+            LocalDateTime until = postedTo.plusDays(1).atStartOfDay();
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("postedAt"), until));
         }
 
         return spec;
     }
-}
 
+    /**
+     * The currency a search restricts jobs to: its upper-cased code, an empty string for "no
+     * stated currency" when only salary bounds are given, or null when salary is not filtered.
+     */
+    public static String salaryCurrency(JobSearchCriteria criteria) {
+        String currency = criteria.getCurrency();
+        if (currency != null && !currency.isBlank()) {
+            return currency.trim().toUpperCase(Locale.ROOT);
+        }
+        return criteria.getMinSalary() != null || criteria.getMaxSalary() != null ? "" : null;
+    }
+
+    /**
+     * Seek predicate for keyset pagination in {@link JobCursor#ORDER}: matches rows strictly after
+     * the cursor, so the next page is read without an OFFSET. A null cursor matches everything.
+     */
+    public static Specification<Job> seekAfter(JobCursor cursor) {
+        if (cursor == null) {
+            return Specification.where(null);
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("postedAt"), cursor.postedAt()),
+                cb.and(
+                        cb.equal(root.get("postedAt"), cursor.postedAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+}
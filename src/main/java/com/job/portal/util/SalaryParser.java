@@ -0,0 +1,125 @@
+package com.job.portal.util;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the free-text {@code Job.salary} into a numeric annual range so it can be filtered
+ * with an index. Understands ranges ("50000-70000", "$100k - $120k", "10-15 LPA"), Indian and
+ * Western units (k, M, lakh/LPA, crore), thousand separators, monthly figures and the common
+ * currency markers. Returns null when the text holds no amount ("Not disclosed").
+ */
+public final class SalaryParser {
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(\\d+(?:[.,]\\d+)*)\\s*(k|mn|m|lpa|lakhs?|lacs?|l|crores?|cr)?(?![a-z])");
+    private static final Pattern INR = Pattern.compile("₹|\\binr\\b|\\brs\\b|lpa|\\blakhs?\\b|\\blacs?\\b|\\bcrores?\\b");
+    private static final Pattern EUR = Pattern.compile("€|\\beur\\b");
+    private static final Pattern GBP = Pattern.compile("£|\\bgbp\\b");
+    private static final Pattern USD = Pattern.compile("\\$|\\busd\\b");
+    private static final Pattern DOT_GROUPED = Pattern.compile("\\d+\\.\\d{3}");
+
+    private SalaryParser() {
+    }
+
+    public record SalaryRange(Long min, Long max, String currency) {
+    }
+
+    public static SalaryRange parse(String salary) {
+        if (salary == null || salary.isBlank()) {
+            return null;
+        }
+        String text = salary.toLowerCase(Locale.ROOT);
+
+        List<BigDecimal> amounts = new ArrayList<>();
+        List<String> units = new ArrayList<>();
+        Matcher matcher = AMOUNT.matcher(text);
+        while (matcher.find() && amounts.size() < 2) {
+            BigDecimal amount = toNumber(matcher.group(1));
+            if (amount != null) {
+                amounts.add(amount);
+                units.add(matcher.group(2));
+            }
+        }
+        if (amounts.isEmpty()) {
+            return null;
+        }
+
+        // "10-15 LPA" / "$100-120k": a unit written once applies to the whole range
+        String rangeUnit = units.get(units.size() - 1) != null ? units.get(units.size() - 1) : units.get(0);
+        long periodMultiplier = text.contains("month") || text.contains("/mo") ? 12 : 1;
+        long[] values = new long[amounts.size()];
+        for (int i = 0; i < amounts.size(); i++) {
+            String unit = units.get(i) != null ? units.get(i) : rangeUnit;
+            values[i] = amounts.get(i)
+                    .multiply(BigDecimal.valueOf(multiplier(unit)))
+                    .multiply(BigDecimal.valueOf(periodMultiplier))
+                    .longValue();
+        }
+
+        long min = values[0];
+        long max = values.length > 1 ? values[1] : values[0];
+        if (min > max) {
+            long swap = min;
+            min = max;
+            max = swap;
+        }
+        String currency = currency(text);
+        if (currency == null && isIndianUnit(rangeUnit)) {
+            // Lakh and crore amounts are only ever quoted in rupees
+            currency = "INR";
+        }
+        return new SalaryRange(min, max, currency);
+    }
+
+    private static BigDecimal toNumber(String raw) {
+        // Commas are always grouping separators ("1,20,000"). Dots group too when there are several
+        // ("1.200.000") or one before exactly three digits ("€45.000"); otherwise a dot is a decimal point
+        String normalized = raw.replace(",", "");
+        if (normalized.chars().filter(c -> c == '.').count() > 1 || DOT_GROUPED.matcher(normalized).matches()) {
+            normalized = normalized.replace(".", "");
+        }
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long multiplier(String unit) {
+        if (unit == null) {
+            return 1;
+        }
+        return switch (unit) {
+            case "k" -> 1_000L;
+            case "m", "mn" -> 1_000_000L;
+            case "l", "lpa", "lakh", "lakhs", "lac", "lacs" -> 100_000L;
+            case "cr", "crore", "crores" -> 10_000_000L;
+            default -> 1;
+        };
+    }
+
+    private static boolean isIndianUnit(String unit) {
+        return unit != null && (unit.startsWith("l") || unit.startsWith("c"));
+    }
+
+    private static String currency(String text) {
+        if (INR.matcher(text).find()) {
+            return "INR";
+        }
+        if (EUR.matcher(text).find()) {
+            return "EUR";
+        }
+        if (GBP.matcher(text).find()) {
+            return "GBP";
+        }
+        if (USD.matcher(text).find()) {
+            return "USD";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.job.portal.benchmark;
+
+import com.job.portal.dto.JobDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.mapper.JobMapper;
+import com.job.portal.util.TestDataBuilder;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of mapping a job list to DTOs with the former ModelMapper setup versus
+ * {@link JobMapper}. Not part of the test suite; run with
+ * <pre>
+ * mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath com.job.portal.benchmark.JobMapperBenchmark"
+ * </pre>
+ * or run {@link #main} from an IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobMapperBenchmark {
+
+    @Param({"1000", "10000"})
+    private int jobCount;
+
+    private List<Job> jobs;
+    private ModelMapper modelMapper;
+    private JobMapper jobMapper;
+
+    @Setup
+    public void setUp() {
+        jobs = new ArrayList<>(jobCount);
+        for (long id = 1; id <= jobCount; id++) {
+            Job job = TestDataBuilder.createTestJobWithId(id);
+            job.setJobDetails("Job details " + id + " ".repeat(200));
+            jobs.add(job);
+        }
+        modelMapper = legacyModelMapper();
+        jobMapper = new JobMapper();
+    }
+
+    @Benchmark
+    public List<JobDTO> modelMapper() {
+        List<JobDTO> dtos = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            dtos.add(modelMapper.map(job, JobDTO.class));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<JobDTO> jobMapper() {
+        return jobMapper.toDtoList(jobs);
+    }
+
+    // The Job -> JobDTO configuration the application used before the hand-written mappers
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.addMappings(new PropertyMap<Job, JobDTO>() {
+            @Override
+            protected void configure() {
+                map(source.getPostedAt(), destination.getCreatedAt());
+            }
+        });
+        return mapper;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JobMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
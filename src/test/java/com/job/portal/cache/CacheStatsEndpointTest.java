@@ -0,0 +1,48 @@
+package com.job.portal.cache;
+
+import com.job.portal.config.CacheConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheStatsEndpointTest {
+
+    private final CacheConfig config = new CacheConfig();
+    private final RefreshLoaders refreshLoaders = new RefreshLoaders();
+    private final CacheManager cacheManager = config.cacheManager(
+            new CachePolicyProperties(null, null, null, null), refreshLoaders, Runnable::run,
+            config.sharedCacheStore(), config.cacheInvalidationBus());
+    private final CacheStatsEndpoint endpoint = new CacheStatsEndpoint(cacheManager, refreshLoaders);
+
+    @Test
+    void cache_reportsHitsMissesLoadsAndKeys() {
+        Cache job = cacheManager.getCache("job");
+        for (int i = 0; i < 5; i++) {
+            job.get(1L, () -> "popular");
+        }
+        job.get(2L, () -> "rare");
+
+        CacheStatsEndpoint.CacheStats stats = endpoint.cache("job");
+
+        assertEquals(2, stats.loads());
+        assertEquals(0, stats.refreshes());
+        assertEquals(4, stats.hits());
+        assertEquals(2, stats.entries());
+        assertTrue(stats.estimatedBytes() > 0);
+        assertTrue(stats.hottestKeys().containsAll(List.of("1", "2")));
+    }
+
+    @Test
+    void caches_listsEveryNamedCache() {
+        Map<String, CacheStatsEndpoint.CacheStats> stats = endpoint.caches();
+
+        assertEquals(CacheConfig.CACHE_NAMES.size(), stats.size());
+        assertTrue(stats.containsKey("jobs_search"));
+        assertNull(endpoint.cache("missing"));
+    }
+}
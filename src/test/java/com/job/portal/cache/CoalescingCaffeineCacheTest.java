@@ -0,0 +1,120 @@
+package com.job.portal.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.job.portal.exception.JobNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingCaffeineCacheTest {
+
+    private final CoalescingCaffeineCache cache =
+            new CoalescingCaffeineCache("job", Caffeine.newBuilder().build(), true);
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> cache.get(1L, () -> {
+                calls.incrementAndGet();
+                release.await();
+                return "job-1";
+            })));
+        }
+        waitFor(() -> cache.coalescedCount() == 7);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("job-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.loadCount());
+        assertEquals("job-1", cache.get(1L).get());
+    }
+
+    @Test
+    void waitersGetTheLoadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = pool.submit(() -> cache.get(2L, () -> {
+            release.await();
+            throw new IllegalStateException("not found");
+        }));
+        waitFor(() -> cache.loadCount() == 1);
+        Future<Object> waiter = pool.submit(() -> cache.get(2L, () -> "unused"));
+        waitFor(() -> cache.coalescedCount() == 1);
+        release.countDown();
+
+        for (Future<Object> result : List.of(leader, waiter)) {
+            Exception ex = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(Cache.ValueRetrievalException.class, ex.getCause());
+            assertInstanceOf(IllegalStateException.class, ex.getCause().getCause());
+        }
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void evictionDuringLoadKeepsStaleValueOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> load = pool.submit(() -> cache.get(3L, () -> {
+            release.await();
+            return "before-update";
+        }));
+        waitFor(() -> cache.loadCount() == 1);
+
+        cache.evict(3L);
+        release.countDown();
+
+        assertEquals("before-update", load.get(5, TimeUnit.SECONDS));
+        assertNull(cache.get(3L));
+    }
+
+    @Test
+    void notFoundIsRememberedUntilTheKeyIsEvicted() {
+        CoalescingCaffeineCache negative = new CoalescingCaffeineCache("job", Caffeine.newBuilder().build(), true,
+                Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> missing = () -> {
+            calls.incrementAndGet();
+            throw new JobNotFoundException("Job not found for jobId: 4");
+        };
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> negative.get(4L, missing));
+        JobNotFoundException repeated = assertThrows(JobNotFoundException.class, () -> negative.get(4L, missing));
+        assertEquals(1, calls.get());
+        assertEquals(1, negative.negativeHitCount());
+        assertEquals(0, repeated.getStackTrace().length);
+
+        negative.evict(4L);
+
+        assertEquals("job-4", negative.get(4L, () -> "job-4"));
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.job.portal.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentCacheInvalidatorTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("quizzes", "prepared_quizzes");
+    private final ContentCacheInvalidator invalidator = new ContentCacheInvalidator(cacheManager);
+
+    @Test
+    void created_evictsOnlyAfterCommit() {
+        Cache quizzes = cacheManager.getCache("quizzes");
+        quizzes.put(1L, "not found");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidator.created(1L, "quizzes", "prepared_quizzes");
+
+            assertNotNull(quizzes.get(1L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNull(quizzes.get(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changed_evictsEachCacheOnlyAfterCommit() {
+        Cache quizzes = cacheManager.getCache("quizzes");
+        Cache prepared = cacheManager.getCache("prepared_quizzes");
+        quizzes.put(1L, "old quiz");
+        prepared.put(1L, "old prepared");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidator.changed(1L, "quizzes", "prepared_quizzes");
+
+            assertNotNull(quizzes.get(1L));
+            assertNotNull(prepared.get(1L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNull(quizzes.get(1L));
+            assertNull(prepared.get(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void batchCreated_clearsEachCache() {
+        cacheManager.getCache("quizzes").put(1L, "quiz");
+        cacheManager.getCache("prepared_quizzes").put(2L, "prepared");
+
+        invalidator.batchCreated("quizzes", "prepared_quizzes");
+
+        assertNull(cacheManager.getCache("quizzes").get(1L));
+        assertNull(cacheManager.getCache("prepared_quizzes").get(2L));
+    }
+}
@@ -0,0 +1,135 @@
+package com.job.portal.cache;
+
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.entity.Job;
+import com.job.portal.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCacheInvalidatorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private JobCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("job", "job_summaries", "jobs_by_company", "jobs_by_experience", "job_counts");
+        invalidator = new JobCacheInvalidator(cacheManager, new InMemorySharedCacheStore(),
+                new InProcessCacheInvalidationBus(), new CachePolicyProperties(null, null, null, null));
+    }
+
+    @Test
+    void jobUpdated_evictsOldAndNewGroupsOnly() {
+        Cache byCompany = cacheManager.getCache("jobs_by_company");
+        byCompany.put("acme", List.of());
+        byCompany.put("globex", List.of());
+        byCompany.put("initech", List.of());
+        Job job = job(1L, "Java Developer", "Acme", "Senior");
+        JobCacheInvalidator.JobKeys before = JobCacheInvalidator.JobKeys.of(job);
+        job.setCompany("Globex");
+
+        invalidator.jobUpdated(before, JobCacheInvalidator.JobKeys.of(job));
+
+        assertNull(byCompany.get("acme"));
+        assertNull(byCompany.get("globex"));
+        assertNotNull(byCompany.get("initech"));
+    }
+
+    @Test
+    void jobUpdated_keepsTypeCountsWhenTypeUnchanged() {
+        Cache counts = cacheManager.getCache("job_counts");
+        counts.put("total", 3L);
+        counts.put("byType", List.of());
+        Job job = job(1L, "Java Developer", "Acme", "Senior");
+
+        invalidator.jobUpdated(JobCacheInvalidator.JobKeys.of(job), JobCacheInvalidator.JobKeys.of(job));
+
+        assertNotNull(counts.get("byType"));
+    }
+
+    @Test
+    void jobDeleted_evictsJobKeysAndExperienceGroup() {
+        Cache jobCache = cacheManager.getCache("job");
+        jobCache.put(1L, "job");
+        jobCache.put("java developer", "job");
+        jobCache.put("java developer_1", "job");
+        jobCache.put(2L, "other");
+        Cache byExperience = cacheManager.getCache("jobs_by_experience");
+        byExperience.put("senior", List.of());
+        byExperience.put("junior", List.of());
+
+        invalidator.jobDeleted(JobCacheInvalidator.JobKeys.of(job(1L, "Java Developer", "Acme", "Senior")));
+
+        assertNull(jobCache.get(1L));
+        assertNull(jobCache.get("java developer"));
+        assertNull(jobCache.get("java developer_1"));
+        assertNotNull(jobCache.get(2L));
+        assertNull(byExperience.get("senior"));
+        assertNotNull(byExperience.get("junior"));
+        assertNull(cacheManager.getCache("job_counts").get("total"));
+    }
+
+    @Test
+    void everyWriteAdvancesSearchAndListingGenerations() {
+        long search = invalidator.searchGeneration();
+        long listing = invalidator.listingGeneration();
+
+        invalidator.jobCreated(job(1L, "Java Developer", "Acme", "Senior"));
+
+        assertEquals(search + 1, invalidator.searchGeneration());
+        assertEquals(listing + 1, invalidator.listingGeneration());
+    }
+
+    @Test
+    void jobUpdated_outsideSearchFieldsKeepsSearchEntries() {
+        Cache summaries = cacheManager.getCache("job_summaries");
+        summaries.put(1L, "summary");
+        Job job = job(1L, "Java Developer", "Acme", "Senior");
+        JobCacheInvalidator.JobKeys before = JobCacheInvalidator.JobKeys.of(job);
+        long search = invalidator.searchGeneration();
+        long listing = invalidator.listingGeneration();
+        job.setCompanyLogo("https://cdn.example.com/acme-new.png");
+
+        invalidator.jobUpdated(before, JobCacheInvalidator.JobKeys.of(job));
+
+        assertEquals(search, invalidator.searchGeneration());
+        assertEquals(listing + 1, invalidator.listingGeneration());
+        assertNull(summaries.get(1L));
+    }
+
+    @Test
+    void searchKey_distinguishesEveryCriteriaField() {
+        JobSearchCriteria javaInPune = criteria("java", "pune");
+        JobSearchCriteria puneInJava = criteria("pune", "java");
+
+        assertEquals(invalidator.searchKey(javaInPune, PageRequest.of(0, 10)),
+                invalidator.searchKey(criteria("java", "pune"), PageRequest.of(0, 10)));
+        assertNotEquals(invalidator.searchKey(javaInPune, PageRequest.of(0, 10)),
+                invalidator.searchKey(puneInJava, PageRequest.of(0, 10)));
+        assertNotEquals(invalidator.searchKey(javaInPune, PageRequest.of(0, 10)),
+                invalidator.searchKey(javaInPune, PageRequest.of(0, 10, Sort.by("company"))));
+    }
+
+    private static JobSearchCriteria criteria(String keyword, String location) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword(keyword);
+        criteria.setLocation(location);
+        return criteria;
+    }
+
+    private static Job job(Long id, String title, String company, String experience) {
+        Job job = TestDataBuilder.createTestJobWithId(id);
+        job.setJobTitle(title);
+        job.setCompany(company);
+        job.setExperience(experience);
+        return job;
+    }
+}
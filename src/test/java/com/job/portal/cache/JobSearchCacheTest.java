@@ -0,0 +1,70 @@
+package com.job.portal.cache;
+
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.search.JobIdPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class JobSearchCacheTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private ConcurrentMapCacheManager cacheManager;
+    private JobCacheInvalidator invalidator;
+    private JobSearchCache searchCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("jobs_search", "job_summaries");
+        invalidator = new JobCacheInvalidator(cacheManager, new InMemorySharedCacheStore(),
+                new InProcessCacheInvalidationBus(), new CachePolicyProperties(null, null, null, null));
+        searchCache = new JobSearchCache(cacheManager, jobRepository, invalidator);
+    }
+
+    @Test
+    void ids_runsSearchOncePerKey() {
+        AtomicInteger searches = new AtomicInteger();
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("java");
+
+        for (int i = 0; i < 3; i++) {
+            searchCache.ids(criteria, PageRequest.of(0, 10), () -> {
+                searches.incrementAndGet();
+                return new JobIdPage(List.of(1L, 2L), 2);
+            });
+        }
+
+        assertEquals(1, searches.get());
+    }
+
+    @Test
+    void summaries_keepIdOrderAndLoadOnlyMisses() {
+        cacheManager.getCache("job_summaries").put(2L, summary(2L));
+        when(jobRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(summary(1L), summary(3L)));
+
+        List<JobSummaryDTO> first = searchCache.summaries(List.of(3L, 2L, 1L, 4L));
+        List<JobSummaryDTO> second = searchCache.summaries(List.of(1L, 3L));
+
+        assertEquals(List.of(3L, 2L, 1L), first.stream().map(JobSummaryDTO::getId).toList());
+        assertEquals(List.of(1L, 3L), second.stream().map(JobSummaryDTO::getId).toList());
+        verify(jobRepository).findSummariesByIdIn(List.of(3L, 1L, 4L));
+        verifyNoMoreInteractions(jobRepository);
+    }
+
+    private static JobSummaryDTO summary(Long id) {
+        JobSummaryDTO summary = new JobSummaryDTO();
+        summary.setId(id);
+        summary.setJobTitle("Job " + id);
+        return summary;
+    }
+}
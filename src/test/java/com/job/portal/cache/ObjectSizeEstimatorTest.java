@@ -0,0 +1,72 @@
+package com.job.portal.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.job.portal.dto.JobDTO;
+import com.job.portal.mapper.JobMapper;
+import com.job.portal.util.TestDataBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectSizeEstimatorTest {
+
+    private final JobMapper jobMapper = new JobMapper();
+
+    @Test
+    void estimate_growsWithJobDetails() {
+        JobDTO small = job(1L, "short");
+        JobDTO large = job(2L, "x".repeat(10_000));
+
+        long smallSize = ObjectSizeEstimator.estimate(small);
+        long largeSize = ObjectSizeEstimator.estimate(large);
+
+        assertTrue(smallSize > 100, "a job DTO is more than its header: " + smallSize);
+        assertTrue(largeSize - smallSize >= 9_000);
+    }
+
+    @Test
+    void estimate_listIncludesEveryJob() {
+        List<JobDTO> hundred = IntStream.range(0, 100).mapToObj(i -> job((long) i, i + "d".repeat(1_000))).toList();
+
+        long size = ObjectSizeEstimator.estimate(hundred);
+
+        assertTrue(size >= 100 * 1_000, "estimated " + size);
+    }
+
+    @Test
+    void estimate_countsSharedAndCyclicReferencesOnce() {
+        List<Object> cycle = new ArrayList<>();
+        cycle.add(cycle);
+        String shared = "y".repeat(1_000);
+
+        assertTrue(ObjectSizeEstimator.estimate(cycle) < 100);
+        assertTrue(ObjectSizeEstimator.estimate(List.of(shared, shared)) < 2 * ObjectSizeEstimator.estimate(shared));
+    }
+
+    @Test
+    void weigher_evictsByEstimatedBytesRatherThanEntryCount() {
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(100_000)
+                .weigher(ObjectSizeEstimator.weigher())
+                .executor(Runnable::run)
+                .build();
+
+        for (long id = 0; id < 50; id++) {
+            cache.put(id, job(id, "z".repeat(10_000)));
+        }
+        cache.cleanUp();
+
+        assertTrue(cache.estimatedSize() < 10, "kept " + cache.estimatedSize() + " large entries");
+    }
+
+    private JobDTO job(Long id, String details) {
+        JobDTO job = jobMapper.toDto(TestDataBuilder.createTestJobWithId(id));
+        job.setJobDetails(details);
+        return job;
+    }
+}
@@ -0,0 +1,68 @@
+package com.job.portal.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.portal.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = spy(new ObjectMapper());
+    private final ResponseBodyCache cache = new ResponseBodyCache(objectMapper, DataSize.ofMegabytes(1));
+
+    @Test
+    void samePayloadInstanceIsSerializedOnce() throws Exception {
+        List<String> data = List.of("a", "b");
+
+        ResponseEntity<byte[]> first = cache.ok(new MockHttpServletRequest(), ApiResponse.success("ok", data));
+        ResponseEntity<byte[]> second = cache.ok(new MockHttpServletRequest(), ApiResponse.success("ok", data));
+
+        assertSame(first.getBody(), second.getBody());
+        assertNotNull(first.getHeaders().getETag());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+    }
+
+    @Test
+    void differentMessageOrPayloadIsSerializedAgain() throws Exception {
+        List<String> data = List.of("a", "b");
+
+        ResponseEntity<byte[]> found = cache.ok(new MockHttpServletRequest(), ApiResponse.success("found", data));
+        ResponseEntity<byte[]> other = cache.ok(new MockHttpServletRequest(), ApiResponse.success("other", data));
+        ResponseEntity<byte[]> copy = cache.ok(new MockHttpServletRequest(), ApiResponse.success("other", List.of("a", "b")));
+
+        assertNotEquals(found.getHeaders().getETag(), other.getHeaders().getETag());
+        assertEquals(other.getHeaders().getETag(), copy.getHeaders().getETag());
+        verify(objectMapper, times(3)).writeValueAsBytes(any());
+    }
+
+    @Test
+    void largeBodyIsServedGzippedWhenAccepted() throws IOException {
+        List<String> data = List.of("x".repeat(4096));
+        MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        ResponseEntity<byte[]> plain = cache.ok(new MockHttpServletRequest(), data);
+        ResponseEntity<byte[]> gzipped = cache.ok(gzipRequest, data);
+
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotEquals(plain.getHeaders().getETag(), gzipped.getHeaders().getETag());
+        assertTrue(gzipped.getBody().length < plain.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.job.portal.cache;
+
+import com.job.portal.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCacheTest {
+
+    private final InMemorySharedCacheStore sharedStore = new InMemorySharedCacheStore();
+    private final InProcessCacheInvalidationBus bus = new InProcessCacheInvalidationBus();
+
+    private CacheManager nodeA;
+    private CacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+    }
+
+    @Test
+    void coldNodeWarmsFromSharedTier() {
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.getCache("job").get(1L, () -> "job-" + loads.incrementAndGet());
+
+        Object onB = nodeB.getCache("job").get(1L, () -> "job-" + loads.incrementAndGet());
+
+        assertEquals("job-1", onB);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictionOnOneNodeReachesEveryNode() {
+        Cache jobOnA = nodeA.getCache("job");
+        Cache jobOnB = nodeB.getCache("job");
+        jobOnA.put(1L, "before-update");
+        assertEquals("before-update", jobOnB.get(1L).get());
+
+        jobOnA.evict(1L);
+
+        assertNull(jobOnB.get(1L));
+        assertNull(sharedStore.get("job", 1L));
+    }
+
+    @Test
+    void generationsAreSharedAcrossNodes() {
+        JobCacheInvalidator invalidatorA = invalidator(nodeA, "node-a");
+        JobCacheInvalidator invalidatorB = invalidator(nodeB, "node-b");
+
+        invalidatorA.jobDeleted(new JobCacheInvalidator.JobKeys(1L, "Java Developer", "Acme", "Senior", "Full-time", null));
+
+        assertEquals(invalidatorA.searchGeneration(), invalidatorB.searchGeneration());
+        assertEquals(invalidatorA.listingKey(0, 20), invalidatorB.listingKey(0, 20));
+        // A node started later picks up the current generation
+        assertEquals(invalidatorA.searchGeneration(), invalidator(nodeB, "node-c").searchGeneration());
+    }
+
+    private CacheManager node(String nodeId) {
+        CacheConfig config = new CacheConfig();
+        return config.cacheManager(policies(nodeId), new RefreshLoaders(), Runnable::run, sharedStore, bus);
+    }
+
+    private JobCacheInvalidator invalidator(CacheManager cacheManager, String nodeId) {
+        return new JobCacheInvalidator(cacheManager, sharedStore, bus, policies(nodeId));
+    }
+
+    private static CachePolicyProperties policies(String nodeId) {
+        return new CachePolicyProperties(null, null, null, new CachePolicyProperties.TwoTier(true, nodeId));
+    }
+}
@@ -0,0 +1,88 @@
+package com.job.portal.config;
+
+import com.job.portal.cache.CachePolicyProperties;
+import com.job.portal.cache.RefreshLoaders;
+import com.job.portal.cache.TwoTierCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheConfigTest {
+
+    private final RefreshLoaders refreshLoaders = new RefreshLoaders();
+    private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+    @Test
+    void refreshingCache_servesPreviousValueWhileReloading() throws InterruptedException {
+        CacheManager cacheManager = cacheManager(Map.of("job_counts",
+                new CachePolicyProperties.Spec(Duration.ofMinutes(10), Duration.ofMillis(1), null, 16L, null)));
+        AtomicLong count = new AtomicLong(42);
+        refreshLoaders.register("job_counts", key -> "total".equals(key) ? count.get() : null);
+        Cache cache = cacheManager.getCache("job_counts");
+        cache.put("total", 41L);
+        Thread.sleep(5);
+
+        // The stale read queues the reload and still answers immediately
+        assertEquals(41L, cache.get("total").get());
+        runRefreshes();
+        assertEquals(42L, cache.get("total").get());
+    }
+
+    @Test
+    void refreshingCache_dropsEntriesItCannotReload() throws InterruptedException {
+        CacheManager cacheManager = cacheManager(Map.of("topics",
+                new CachePolicyProperties.Spec(Duration.ofMinutes(10), Duration.ofMillis(1), null, null, null)));
+        refreshLoaders.register("topics", key -> null);
+        Cache cache = cacheManager.getCache("topics");
+        cache.put("t-1", "topic");
+        Thread.sleep(5);
+
+        cache.get("t-1");
+        runRefreshes();
+
+        assertNull(cache.get("t-1"));
+    }
+
+    @Test
+    void unknownCacheNameHasNoCache() {
+        assertNull(cacheManager(Map.of()).getCache("jbos"));
+    }
+
+    @Test
+    void twoTier_keepsIndexDerivedCachesOffTheSharedTier() {
+        CacheManager cacheManager = cacheManager(Map.of(), new CachePolicyProperties.TwoTier(true, "node-a"));
+
+        assertInstanceOf(TwoTierCache.class, cacheManager.getCache("job"));
+        assertFalse(cacheManager.getCache("jobs_search") instanceof TwoTierCache);
+        assertFalse(cacheManager.getCache("jobs_latest") instanceof TwoTierCache);
+    }
+
+    private CacheManager cacheManager(Map<String, CachePolicyProperties.Spec> specs) {
+        return cacheManager(specs, null);
+    }
+
+    private CacheManager cacheManager(Map<String, CachePolicyProperties.Spec> specs,
+                                      CachePolicyProperties.TwoTier twoTier) {
+        CachePolicyProperties policies = new CachePolicyProperties(
+                new CachePolicyProperties.Spec(Duration.ofMinutes(5), null, DataSize.ofMegabytes(1), null, null),
+                specs, null, twoTier);
+        CacheConfig config = new CacheConfig();
+        return config.cacheManager(policies, refreshLoaders, refreshes::add, config.sharedCacheStore(),
+                config.cacheInvalidationBus());
+    }
+
+    private void runRefreshes() {
+        while (!refreshes.isEmpty()) {
+            refreshes.poll().run();
+        }
+    }
+}
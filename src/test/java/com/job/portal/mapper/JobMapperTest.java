@@ -0,0 +1,60 @@
+package com.job.portal.mapper;
+
+import com.job.portal.dto.JobDTO;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.util.TestDataBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobMapperTest {
+
+    private final JobMapper mapper = new JobMapper();
+
+    @Test
+    void toDto_copiesFieldsAndExposesPostingTimeAsCreatedAt() {
+        Job job = TestDataBuilder.createTestJobWithId(4L);
+        job.setCreatedDate(LocalDate.of(2024, 3, 1));
+        job.setCreatedTime(LocalTime.of(9, 30));
+
+        JobDTO dto = mapper.toDto(job);
+
+        assertEquals(4L, dto.getId());
+        assertEquals(job.getJobTitle(), dto.getJobTitle());
+        assertEquals(job.getJobDetails(), dto.getJobDetails());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 30), dto.getCreatedAt());
+        assertEquals(50_000L, dto.getSalaryMin());
+        assertEquals(70_000L, dto.getSalaryMax());
+    }
+
+    @Test
+    void toEntity_splitsCreatedAtAndDerivesSalaryRange() {
+        JobDTO dto = TestDataBuilder.createTestJobDTO();
+        dto.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30));
+        dto.setSalaryMin(1L);
+
+        Job job = mapper.toEntity(dto);
+
+        assertEquals(LocalDate.of(2024, 3, 1), job.getCreatedDate());
+        assertEquals(LocalTime.of(9, 30), job.getCreatedTime());
+        assertEquals(dto.getCreatedAt(), job.getPostedAt());
+        // Client-supplied parsed values are ignored in favour of the salary text
+        assertEquals(50_000L, job.getSalaryMin());
+    }
+
+    @Test
+    void toSummary_leavesOutDetails() {
+        Job job = TestDataBuilder.createTestJobWithId(5L);
+
+        JobSummaryDTO summary = mapper.toSummary(job);
+
+        assertEquals(5L, summary.getId());
+        assertEquals(job.getCompanyLogo(), summary.getCompanyLogo());
+        assertEquals(job.getPostedAt(), summary.getCreatedAt());
+    }
+}
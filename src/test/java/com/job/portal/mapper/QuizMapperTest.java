@@ -0,0 +1,81 @@
+package com.job.portal.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.portal.dto.QuizDto;
+import com.job.portal.dto.QuizPaperDto;
+import com.job.portal.dto.QuizQuestionDto;
+import com.job.portal.entity.Quiz;
+import com.job.portal.entity.QuizQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuizMapperTest {
+
+    private final QuizMapper mapper = new QuizMapper();
+
+    @Test
+    void toEntity_attachesQuestionsToQuiz() {
+        QuizQuestionDto question = new QuizQuestionDto();
+        question.setQuestion("What is a JVM?");
+        question.setOptions(List.of("A", "B"));
+        question.setCorrectAnswer("A");
+        QuizDto dto = new QuizDto();
+        dto.setTitle("Java basics");
+        dto.setTags(List.of("java"));
+        dto.setQuestions(List.of(question));
+
+        Quiz quiz = mapper.toEntity(dto);
+
+        assertEquals(1, quiz.getQuestions().size());
+        assertSame(quiz, quiz.getQuestions().get(0).getQuiz());
+        // Element collections must stay mutable for JPA
+        quiz.getTags().add("jvm");
+        quiz.getQuestions().get(0).getOptions().add("C");
+    }
+
+    @Test
+    void toDto_mapsQuestionsAndCopiesCollections() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setTitle("Java basics");
+        quiz.setTags(new ArrayList<>(List.of("java")));
+        QuizQuestion question = new QuizQuestion();
+        question.setId(2L);
+        question.setQuestion("What is a JVM?");
+        question.setCorrectAnswer("A");
+        question.setDifficulty(QuizQuestion.Difficulty.EASY);
+        quiz.addQuestion(question);
+
+        QuizDto dto = mapper.toDto(quiz);
+
+        assertEquals(List.of("java"), dto.getTags());
+        assertNotSame(quiz.getTags(), dto.getTags());
+        assertEquals(2L, dto.getQuestions().get(0).getId());
+        assertEquals(QuizQuestion.Difficulty.EASY, dto.getQuestions().get(0).getDifficulty());
+    }
+
+    @Test
+    void toPaper_keepsEverythingButTheAnswers() throws Exception {
+        QuizQuestionDto question = new QuizQuestionDto();
+        question.setId(2L);
+        question.setQuestion("What is a JVM?");
+        question.setOptions(List.of("A", "B"));
+        question.setCorrectAnswer("A");
+        QuizDto dto = new QuizDto();
+        dto.setId(1L);
+        dto.setTags(List.of("java"));
+        dto.setJobId(7L);
+        dto.setQuestions(List.of(question));
+
+        QuizPaperDto paper = mapper.toPaper(dto);
+
+        assertEquals(List.of("java"), paper.getTags());
+        assertEquals(7L, paper.getJobId());
+        assertEquals(List.of("A", "B"), paper.getQuestions().get(0).getOptions());
+        assertFalse(new ObjectMapper().writeValueAsString(paper).contains("correctAnswer"));
+    }
+}
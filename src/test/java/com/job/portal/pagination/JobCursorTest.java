@@ -0,0 +1,41 @@
+package com.job.portal.pagination;
+
+import com.job.portal.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCursorTest {
+
+    private static final LocalDateTime POSTED = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void encode_roundTrips() {
+        JobCursor cursor = new JobCursor(POSTED, 42L);
+
+        assertEquals(cursor, JobCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_rejectsMalformedTokens() {
+        assertNull(JobCursor.decode(" "));
+        assertThrows(InvalidCursorException.class, () -> JobCursor.decode("not-a-cursor"));
+        String undated = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("|7".getBytes(StandardCharsets.UTF_8));
+        assertThrows(InvalidCursorException.class, () -> JobCursor.decode(undated));
+    }
+
+    @Test
+    void isFollowedBy_matchesOlderRowsAndLowerIdsAtTheSameTime() {
+        JobCursor cursor = new JobCursor(POSTED, 42L);
+
+        assertTrue(cursor.isFollowedBy(POSTED.minusDays(1), 99L));
+        assertTrue(cursor.isFollowedBy(POSTED, 41L));
+        assertFalse(cursor.isFollowedBy(POSTED, 43L));
+        assertFalse(cursor.isFollowedBy(POSTED.plusSeconds(1), 1L));
+    }
+}
@@ -0,0 +1,70 @@
+package com.job.portal.search;
+
+import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.entity.InterviewQuestion.Difficulty;
+import com.job.portal.repository.InterviewQuestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs outside a transaction, as the startup rebuild does, so lazy tags cannot be loaded from a session
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InterviewQuestionIndexRebuildTest {
+
+    @Autowired
+    private InterviewQuestionRepository repository;
+
+    private final Pageable firstPage = PageRequest.of(0, 10);
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void rebuildReadsTaggedQuestionsWithoutASession() {
+        Long resize = save("How does HashMap resize?", "The table doubles.", Difficulty.HARD,
+                List.of("Java", "Collections"));
+        Long bean = save("What is a bean?", "An object the Spring container manages.", Difficulty.EASY,
+                List.of("Spring"));
+        Long untagged = save("What is a bean scope?", "Singleton, prototype and the web scopes.", Difficulty.EASY,
+                List.of());
+        InterviewQuestionIndex index = new InterviewQuestionIndex(repository);
+
+        index.rebuild();
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(resize), ids(index.search("resize", "collections", null, firstPage)));
+        assertEquals(List.of(bean), ids(index.search("bean", "SPRING", null, firstPage)));
+        assertEquals(Set.of(untagged, bean),
+                Set.copyOf(ids(index.search("bean", null, Difficulty.EASY, firstPage))));
+    }
+
+    private static List<Long> ids(InterviewQuestionIndex.Result result) {
+        return result.hits().stream().map(InterviewQuestionIndex.Hit::id).toList();
+    }
+
+    private Long save(String question, String answer, Difficulty difficulty, List<String> tags) {
+        InterviewQuestion entity = new InterviewQuestion();
+        entity.setQuestion(question);
+        entity.setAnswer(answer);
+        entity.setDifficulty(difficulty);
+        entity.setTags(tags);
+        return repository.save(entity).getId();
+    }
+}
@@ -0,0 +1,155 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.entity.InterviewQuestion.Difficulty;
+import com.job.portal.repository.InterviewQuestionRepository;
+import com.job.portal.repository.TagEntryProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InterviewQuestionIndexTest {
+
+    private final InterviewQuestionRepository repository = mock(InterviewQuestionRepository.class);
+    private final InterviewQuestionIndex index = new InterviewQuestionIndex(repository);
+    private final Pageable firstPage = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findIndexEntriesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                entry(1L, "How does HashMap resize?", "When the load factor is exceeded the table doubles.",
+                        Difficulty.HARD),
+                entry(2L, "What is a bean?", "An object managed by the Spring container; resize is unrelated.",
+                        Difficulty.EASY),
+                entry(3L, "Explain the bean lifecycle", "Instantiation, population, init callbacks, destruction.",
+                        Difficulty.INTERMEDIATE)));
+        when(repository.findTagEntriesByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                tag(1L, "Java"), tag(2L, "Spring"), tag(3L, "spring")));
+        index.rebuild();
+    }
+
+    @Test
+    void questionMatchesRankAboveAnswerMatches() {
+        InterviewQuestionIndex.Result result = index.search("resize", null, null, firstPage);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(1L, 2L), result.hits().stream().map(InterviewQuestionIndex.Hit::id).toList());
+        assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    }
+
+    @Test
+    void everyTermMustMatchAndFiltersApply() {
+        assertEquals(List.of(3L), ids(index.search("bean lifecycle", null, null, firstPage)));
+        assertEquals(List.of(3L, 2L), ids(index.search("bean", "SPRING", null, firstPage)));
+        assertEquals(List.of(2L), ids(index.search("bean", null, Difficulty.EASY, firstPage)));
+        assertEquals(List.of(), ids(index.search("bean", "java", null, firstPage)));
+    }
+
+    @Test
+    void writesKeepTheIndexInSync() {
+        InterviewQuestionDto updated = new InterviewQuestionDto();
+        updated.setId(2L);
+        updated.setQuestion("What is dependency injection?");
+        updated.setAnswer("Passing collaborators in.");
+        updated.setDifficulty(Difficulty.EASY);
+        index.index(updated);
+        index.remove(1L);
+
+        assertEquals(0, index.search("resize", null, null, firstPage).total());
+        assertEquals(List.of(2L), ids(index.search("injection", null, null, firstPage)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void searchUsesTheDatabaseUntilTheIndexIsBuilt() {
+        InterviewQuestionIndex cold = new InterviewQuestionIndex(repository);
+        when(repository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(entity(3L, "Explain the bean lifecycle", "…", Difficulty.EASY,
+                        List.of())), firstPage, 1));
+
+        InterviewQuestionIndex.Result result = cold.search("bean", null, null, firstPage);
+
+        assertEquals(List.of(3L), ids(result));
+        assertEquals(1, result.total());
+        verify(repository, times(1)).findIndexEntriesAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void highlightsMatchedWordsAroundTheFirstMatch() {
+        List<String> terms = InvertedIndex.tokenize("hashmap RESIZ");
+
+        assertEquals("How does <em>HashMap</em> <em>resize</em>?",
+                Highlighter.highlight("How does HashMap resize?", terms, 200));
+        assertNull(Highlighter.highlight("What is a bean?", terms, 200));
+
+        String snippet = Highlighter.highlight("x ".repeat(100) + "Map<K, V> will resize " + "y ".repeat(100), terms, 60);
+        assertTrue(snippet.startsWith("…") && snippet.endsWith("…"));
+        assertTrue(snippet.contains("Map&lt;K, V&gt; will <em>resize</em>"));
+    }
+
+    private static List<Long> ids(InterviewQuestionIndex.Result result) {
+        return result.hits().stream().map(InterviewQuestionIndex.Hit::id).toList();
+    }
+
+    private static InterviewQuestion entity(Long id, String question, String answer, Difficulty difficulty,
+                                            List<String> tags) {
+        InterviewQuestion entity = new InterviewQuestion();
+        entity.setId(id);
+        entity.setQuestion(question);
+        entity.setAnswer(answer);
+        entity.setDifficulty(difficulty);
+        entity.setTags(tags);
+        return entity;
+    }
+
+    private static InterviewQuestionRepository.IndexEntryProjection entry(Long id, String question, String answer,
+                                                                          Difficulty difficulty) {
+        return new InterviewQuestionRepository.IndexEntryProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getQuestion() {
+                return question;
+            }
+
+            @Override
+            public String getAnswer() {
+                return answer;
+            }
+
+            @Override
+            public Difficulty getDifficulty() {
+                return difficulty;
+            }
+        };
+    }
+
+    private static TagEntryProjection tag(Long id, String tag) {
+        return new TagEntryProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTag() {
+                return tag;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.JobFacets;
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvertedIndexJobSearchEngineTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobSearchEngine fallback;
+
+    private InvertedIndexJobSearchEngine engine;
+
+    private Job javaDeveloper;
+    private Job pythonDeveloper;
+    private Job javaInDetails;
+
+    @BeforeEach
+    void setUp() {
+        javaDeveloper = job(1L, "Java Developer", "Acme", "Backend services", LocalDate.of(2024, 1, 1));
+        pythonDeveloper = job(2L, "Python Developer", "Globex", "Data pipelines", LocalDate.of(2024, 1, 2));
+        javaInDetails = job(3L, "Backend Engineer", "Initech", "Java and Spring Boot", LocalDate.of(2024, 1, 3));
+
+        engine = new InvertedIndexJobSearchEngine(jobRepository, fallback);
+        when(jobRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(javaDeveloper, pythonDeveloper, javaInDetails)));
+        engine.rebuild();
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDetailsMatches() {
+        JobSearchCriteria criteria = criteria("java");
+
+        List<Long> ids = engine.findMatchingIds(criteria, Sort.by(Sort.Direction.DESC, "relevance"));
+
+        assertEquals(List.of(1L, 3L), ids);
+    }
+
+    @Test
+    void search_matchesTermPrefixes() {
+        List<Long> ids = engine.findMatchingIds(criteria("develop"), Sort.by(Sort.Direction.DESC, "postedAt"));
+
+        assertEquals(List.of(2L, 1L), ids);
+    }
+
+    @Test
+    void search_appliesFiltersAndLoadsOnlyRequestedPage() {
+        when(jobRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(summary(javaInDetails)));
+        JobSearchCriteria criteria = criteria("java");
+        criteria.setCompany("INITECH");
+
+        Page<JobSummaryDTO> page = engine.search(criteria, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "postedAt")));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(3L, page.getContent().get(0).getId());
+        verify(jobRepository).findSummariesByIdIn(List.of(3L));
+    }
+
+    @Test
+    void search_comparesSalaryOnlyWithinTheRequestedCurrency() {
+        javaDeveloper.setSalary("$60k - $80k");
+        javaDeveloper.refreshSalaryRange();
+        engine.index(javaDeveloper);
+        javaInDetails.setSalary("10-15 LPA");
+        javaInDetails.refreshSalaryRange();
+        engine.index(javaInDetails);
+
+        JobSearchCriteria inDollars = criteria(null);
+        inDollars.setMinSalary(55_000L);
+        inDollars.setCurrency("usd");
+        JobSearchCriteria unstated = criteria(null);
+        unstated.setMinSalary(55_000L);
+
+        assertEquals(List.of(1L), engine.findMatchingIds(inDollars, Sort.unsorted()));
+        assertEquals(List.of(2L), engine.findMatchingIds(unstated, Sort.unsorted()));
+    }
+
+    @Test
+    void index_reflectsUpdatesAndRemovals() {
+        javaDeveloper.setJobTitle("Kotlin Developer");
+        engine.index(javaDeveloper);
+        engine.remove(3L);
+
+        assertTrue(engine.findMatchingIds(criteria("java"), Sort.unsorted()).isEmpty());
+        assertEquals(List.of(1L), engine.findMatchingIds(criteria("kotlin"), Sort.unsorted()));
+    }
+
+    @Test
+    void rebuild_appliesRemovalsMadeWhileItReads() throws Exception {
+        Thread[] deleter = new Thread[1];
+        when(jobRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            // A delete commits after this page was read; its removal must not be undone by the rebuild
+            deleter[0] = new Thread(() -> engine.remove(2L));
+            deleter[0].start();
+            deleter[0].join(100);
+            return new PageImpl<>(List.of(javaDeveloper, pythonDeveloper, javaInDetails));
+        });
+
+        engine.rebuild();
+        deleter[0].join();
+
+        assertTrue(engine.findMatchingIds(criteria("python"), Sort.unsorted()).isEmpty());
+        assertEquals(List.of(1L, 3L), engine.findMatchingIds(criteria(null), Sort.by(Sort.Direction.ASC, "id")));
+    }
+
+    @Test
+    void facets_countMatchingJobsPerValue() {
+        pythonDeveloper.setJobType("Contract");
+        engine.index(pythonDeveloper);
+
+        JobFacets facets = engine.facets(criteria("developer"));
+
+        assertEquals(Map.of("Full-time", 1L, "Contract", 1L), facets.getJobType());
+        assertEquals(Map.of("Acme", 1L, "Globex", 1L), facets.getCompany());
+        assertEquals(Map.of("Remote", 2L), facets.getLocation());
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void search_unsupportedSortDelegatesToFallback() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("salary"));
+        JobSearchCriteria criteria = criteria("java");
+
+        engine.search(criteria, pageable);
+
+        verify(fallback).search(criteria, pageable);
+    }
+
+    private static JobSearchCriteria criteria(String keyword) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword(keyword);
+        return criteria;
+    }
+
+    private static JobSummaryDTO summary(Job job) {
+        JobSummaryDTO summary = new JobSummaryDTO();
+        summary.setId(job.getId());
+        summary.setJobTitle(job.getJobTitle());
+        summary.setCreatedAt(job.getPostedAt());
+        return summary;
+    }
+
+    private static Job job(Long id, String title, String company, String details, LocalDate createdDate) {
+        Job job = TestDataBuilder.createTestJobWithId(id);
+        job.setJobTitle(title);
+        job.setCompany(company);
+        job.setJobDetails(details);
+        job.setCreatedDate(createdDate);
+        return job;
+    }
+}
@@ -0,0 +1,49 @@
+package com.job.portal.search;
+
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.pagination.JobCursor;
+import com.job.portal.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SpecificationJobSearchEngineTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final SpecificationJobSearchEngine engine = new SpecificationJobSearchEngine(jobRepository);
+
+    @Test
+    void relevanceSortIsServedNewestFirst() {
+        when(jobRepository.findSummaries(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(jobRepository.findSummarySlice(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+        PageRequest byRelevance = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "relevance"));
+
+        engine.search(new JobSearchCriteria(), byRelevance);
+        engine.searchSlice(new JobSearchCriteria(), byRelevance);
+
+        verify(jobRepository).findSummaries(any(Specification.class), eq(PageRequest.of(2, 10, JobCursor.ORDER)));
+        verify(jobRepository).findSummarySlice(any(Specification.class), eq(PageRequest.of(2, 10, JobCursor.ORDER)));
+    }
+
+    @Test
+    void otherSortsArePassedThrough() {
+        when(jobRepository.findSummaries(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        PageRequest bySalary = PageRequest.of(0, 10, Sort.by("salaryMin"));
+
+        engine.search(new JobSearchCriteria(), bySalary);
+
+        verify(jobRepository).findSummaries(any(Specification.class), eq(bySalary));
+    }
+}
@@ -0,0 +1,90 @@
+package com.job.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.job.portal.dto.BulkImportResultDto;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkImporterTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final BulkImporter importer = new BulkImporter(new ObjectMapper(), validator, 2, 10);
+
+    private final List<List<String>> chunks = new ArrayList<>();
+    private final List<String> singles = new ArrayList<>();
+
+    @Test
+    void itemsAreSavedInChunksAndInvalidOnesReported() {
+        BulkImportResultDto result = run("""
+                [{"name":"a"},{"name":"b"},{"name":""},{"name":"c"},{"name":{"first":"x"}},{"name":"d"}]""");
+
+        assertTrue(result.isCompleted());
+        assertEquals(6, result.getReceived());
+        assertEquals(4, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), chunks);
+        assertEquals(List.of(2, 4), result.getErrors().stream().map(BulkImportResultDto.ItemError::getIndex).toList());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("name:"));
+        assertTrue(importer.running().isEmpty());
+    }
+
+    @Test
+    void failedChunkIsRetriedItemByItem() {
+        BulkImportResultDto result = run("""
+                [{"name":"a"},{"name":"bad"},{"name":"c"}]""");
+
+        assertEquals(2, result.getImported());
+        assertEquals(List.of("a"), singles);
+        assertEquals(List.of(List.of("c")), chunks);
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("rejected bad", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void malformedBodyStopsAfterTheItemsReadSoFar() {
+        BulkImportResultDto result = run("""
+                [{"name":"a"},{"name":"b"},{"name":"c"},{"name": oops""");
+
+        assertFalse(result.isCompleted());
+        assertEquals(3, result.getImported());
+        assertEquals(3, result.getErrors().get(0).getIndex());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+
+        BulkImportResultDto notAnArray = run("""
+                {"name":"a"}""");
+        assertFalse(notAnArray.isCompleted());
+        assertEquals(-1, notAnArray.getErrors().get(0).getIndex());
+    }
+
+    private BulkImportResultDto run(String json) {
+        return importer.run("items", new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), Item.class,
+                items -> {
+                    if (items.stream().anyMatch(item -> item.getName().equals("bad"))) {
+                        throw new IllegalStateException("constraint violated");
+                    }
+                    chunks.add(items.stream().map(Item::getName).toList());
+                },
+                item -> {
+                    if (item.getName().equals("bad")) {
+                        throw new IllegalStateException("rejected bad");
+                    }
+                    singles.add(item.getName());
+                });
+    }
+
+    @Data
+    static class Item {
+        @NotBlank
+        private String name;
+    }
+}
@@ -0,0 +1,70 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.JobSummaryDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private TopicService topicService;
+
+    @Test
+    void warmUp_loadsHotCachesThenReportsReady() {
+        lenient().when(jobService.getLatestJobs(2)).thenReturn(List.of(summary(5L), summary(4L)));
+        CacheWarmup warmup = new CacheWarmup(jobService, topicService, true, 20, 2, 2, Duration.ofSeconds(5));
+        assertEquals(Status.OUT_OF_SERVICE, warmup.health().getStatus());
+
+        warmup.warmUp();
+
+        assertEquals(Status.UP, warmup.health().getStatus());
+        verify(jobService).getLatestJobs(null, 20);
+        verify(jobService).getAllJobs(0, 20);
+        verify(jobService).getJobCount();
+        verify(jobService).getJobStatsByType();
+        verify(topicService).getAll();
+        verify(jobService).getJobById(5L);
+        verify(jobService).getJobById(4L);
+        assertEquals(7, warmup.health().getDetails().get("loaded"));
+    }
+
+    @Test
+    void warmUp_failedLoadDoesNotBlockReadiness() {
+        when(topicService.getAll()).thenThrow(new IllegalStateException("database unavailable"));
+        CacheWarmup warmup = new CacheWarmup(jobService, topicService, true, 20, 0, 2, Duration.ofSeconds(5));
+
+        warmup.warmUp();
+
+        assertEquals(Status.UP, warmup.health().getStatus());
+        assertEquals(1, warmup.health().getDetails().get("failed"));
+    }
+
+    @Test
+    void disabledWarmupIsReadyImmediately() {
+        CacheWarmup warmup = new CacheWarmup(jobService, topicService, false, 20, 50, 2, Duration.ofSeconds(5));
+
+        warmup.onApplicationReady();
+
+        assertTrue(warmup.isDone());
+        verifyNoInteractions(jobService, topicService);
+    }
+
+    private static JobSummaryDTO summary(Long id) {
+        JobSummaryDTO summary = new JobSummaryDTO();
+        summary.setId(id);
+        return summary;
+    }
+}
@@ -0,0 +1,117 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.InterviewQuestionDto;
+import com.job.portal.entity.InterviewQuestion.Difficulty;
+import com.job.portal.repository.InterviewQuestionRepository;
+import com.job.portal.repository.InterviewQuestionRepository.PoolEntryProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InterviewQuestionPoolsTest {
+
+    private final InterviewQuestionRepository repository = mock(InterviewQuestionRepository.class);
+    private final InterviewQuestionPools pools = new InterviewQuestionPools(repository);
+
+    @BeforeEach
+    void setUp() {
+        List<PoolEntryProjection> rows = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            rows.add(entry(id, id % 2 == 0 ? Difficulty.HARD : Difficulty.EASY, "Java"));
+            if (id <= 10) {
+                rows.add(entry(id, id % 2 == 0 ? Difficulty.HARD : Difficulty.EASY, "Spring"));
+            }
+        }
+        rows.add(entry(101L, Difficulty.HARD, null));
+        when(repository.findPoolEntries()).thenReturn(rows);
+        pools.reload();
+    }
+
+    @Test
+    void poolsAreGroupedByTagAndDifficulty() {
+        assertEquals(50, pools.size("java", Difficulty.HARD));
+        assertEquals(100, pools.size(" JAVA ", null));
+        assertEquals(5, pools.size("spring", Difficulty.EASY));
+        assertEquals(51, pools.size(null, Difficulty.HARD));
+        assertEquals(101, pools.size(null, null));
+    }
+
+    @Test
+    void sampleIsDistinctAndFromTheRightPool() {
+        List<Long> ids = pools.sample("Java", Difficulty.HARD, 10);
+
+        assertEquals(10, ids.size());
+        assertEquals(10, new HashSet<>(ids).size());
+        assertTrue(ids.stream().allMatch(id -> id % 2 == 0 && id <= 100));
+        assertEquals(5, pools.sample("spring", Difficulty.HARD, 10).size());
+        assertTrue(pools.sample("kotlin", null, 10).isEmpty());
+    }
+
+    @Test
+    void writesMoveQuestionsBetweenPools() {
+        pools.put(question(2L, Difficulty.EASY, List.of("Kotlin")));
+        pools.putAll(List.of(question(200L, Difficulty.HARD, List.of("kotlin")), question(201L, Difficulty.HARD, null)));
+        pools.remove(4L);
+
+        assertEquals(48, pools.size("java", Difficulty.HARD));
+        assertEquals(1, pools.size("kotlin", Difficulty.EASY));
+        assertEquals(2, pools.size("kotlin", null));
+        assertEquals(102, pools.size(null, null));
+        assertEquals(List.of(2L), pools.sample("kotlin", Difficulty.EASY, 5));
+        verify(repository, times(1)).findPoolEntries();
+    }
+
+    @Test
+    void removalsKeepTheRemainingIdsSampleable() {
+        for (long id = 2; id <= 100; id += 4) {
+            pools.remove(id);
+        }
+
+        List<Long> ids = pools.sample("java", Difficulty.HARD, 50);
+        assertEquals(25, ids.size());
+        assertEquals(25, new HashSet<>(ids).size());
+        assertTrue(ids.stream().allMatch(id -> id % 4 == 0));
+    }
+
+    @Test
+    void samplesAreEmptyUntilLoadedWithoutLoadingOnTheCallersThread() {
+        InterviewQuestionPools cold = new InterviewQuestionPools(repository);
+        clearInvocations(repository);
+
+        assertTrue(cold.sample("java", null, 3).isEmpty());
+        verify(repository, never()).findPoolEntries();
+    }
+
+    private static InterviewQuestionDto question(Long id, Difficulty difficulty, List<String> tags) {
+        InterviewQuestionDto question = new InterviewQuestionDto();
+        question.setId(id);
+        question.setDifficulty(difficulty);
+        question.setTags(tags);
+        return question;
+    }
+
+    private static PoolEntryProjection entry(Long id, Difficulty difficulty, String tag) {
+        return new PoolEntryProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Difficulty getDifficulty() {
+                return difficulty;
+            }
+
+            @Override
+            public String getTag() {
+                return tag;
+            }
+        };
+    }
+}
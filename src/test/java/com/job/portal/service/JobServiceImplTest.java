@@ -1,31 +1,45 @@
 package com.job.portal.service;
 
+import com.job.portal.cache.JobCacheInvalidator;
+import com.job.portal.cache.JobSearchCache;
+import com.job.portal.dto.CursorPage;
 import com.job.portal.dto.JobDTO;
 import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.dto.SliceResponse;
 import com.job.portal.entity.Job;
 import com.job.portal.exception.JobNotFoundException;
+import com.job.portal.mapper.JobMapper;
+import com.job.portal.pagination.JobCursor;
 import com.job.portal.repository.JobRepository;
+import com.job.portal.search.JobIdPage;
+import com.job.portal.search.JobSearchEngine;
+import com.job.portal.search.SearchCountEstimator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.modelmapper.ModelMapper;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,22 +48,60 @@ class JobServiceImplTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private JobSearchEngine jobSearchEngine;
+
+    @Mock
+    private SearchCountEstimator searchCountEstimator;
+
+    @Mock
+    private LatestJobsFeed latestJobsFeed;
+
+    @Mock
+    private JobCacheInvalidator jobCacheInvalidator;
+
+    @Mock
+    private JobSearchCache jobSearchCache;
+
     @Spy
-    private ModelMapper modelMapper = new ModelMapper();
+    private JobMapper jobMapper = new JobMapper();
 
     @InjectMocks
     private JobServiceImpl jobService;
 
     @Test
-    void getAllJobs_returnsDtos() {
-        Job job = createJob(1L);
-        when(jobRepository.findAll()).thenReturn(List.of(job));
+    void getAllJobs_returnsRequestedPageInNewestFirstOrder() {
+        JobSummaryDTO job = createSummary(1L);
+        Pageable pageable = PageRequest.of(2, 10, JobCursor.ORDER);
+        when(jobRepository.findAllSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(job), pageable, false));
 
-        List<JobDTO> result = jobService.getAllJobs();
+        List<JobSummaryDTO> result = jobService.getAllJobs(2, 10);
 
         assertEquals(1, result.size());
         assertEquals(job.getJobTitle(), result.get(0).getJobTitle());
-        verify(jobRepository).findAll();
+        verify(jobRepository, never()).findAll();
+    }
+
+    @Test
+    void getLatestJobs_servedFromFeedWithoutQuery() {
+        JobSummaryDTO latest = createSummary(10L);
+        when(latestJobsFeed.latest(null, 5)).thenReturn(Optional.of(List.of(latest)));
+
+        List<JobSummaryDTO> result = jobService.getLatestJobs(5);
+
+        assertEquals(List.of(latest), result);
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void getLatestJobs_fallsBackToDatabaseWhenFeedCannotAnswer() {
+        Pageable pageable = PageRequest.of(0, 5, JobCursor.ORDER);
+        when(latestJobsFeed.latest(null, 5)).thenReturn(Optional.empty());
+        when(jobRepository.findAllSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(createSummary(11L)), pageable, false));
+
+        List<JobSummaryDTO> result = jobService.getLatestJobs(5);
+
+        assertEquals(11L, result.get(0).getId());
     }
 
     @Test
@@ -72,22 +124,69 @@ class JobServiceImplTest {
 
     @Test
     void searchJobs_returnsPagedResults() {
-        Job job = createJob(3L);
-        Page<Job> page = new PageImpl<>(List.of(job));
-        when(jobRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-
+        JobSummaryDTO job = createSummary(3L);
         JobSearchCriteria criteria = new JobSearchCriteria();
         criteria.setKeyword("engineer");
+        Pageable pageable = PageRequest.of(0, 5);
+        when(jobSearchEngine.searchIds(criteria, pageable)).thenReturn(new JobIdPage(List.of(3L), 12));
+        when(jobSearchCache.ids(eq(criteria), eq(pageable), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<JobIdPage>>getArgument(2).get());
+        when(jobSearchCache.summaries(List.of(3L))).thenReturn(List.of(job));
 
-        Page<JobDTO> result = jobService.searchJobs(criteria, PageRequest.of(0, 5));
+        Page<JobSummaryDTO> result = jobService.searchJobs(criteria, pageable);
 
-        assertEquals(1, result.getTotalElements());
+        assertEquals(12, result.getTotalElements());
         assertEquals(job.getJobTitle(), result.getContent().get(0).getJobTitle());
+        verify(jobSearchEngine, never()).search(any(), any());
+    }
+
+    @Test
+    void searchJobsSlice_reportsHasNextAndApproximateTotal() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        Pageable pageable = PageRequest.of(0, 1);
+        when(jobSearchEngine.searchSlice(criteria, pageable))
+                .thenReturn(new SliceImpl<>(List.of(createSummary(4L)), pageable, true));
+        when(searchCountEstimator.estimate(criteria)).thenReturn(1200L);
+
+        SliceResponse<JobSummaryDTO> result = jobService.searchJobsSlice(criteria, pageable, true);
+
+        assertTrue(result.isHasNext());
+        assertEquals(1200L, result.getApproximateTotal());
+        assertEquals(1, result.getContent().size());
+        verify(jobSearchEngine, never()).count(any());
+    }
+
+    @Test
+    void searchJobs_withCursorReturnsNextTokenWithoutCounting() {
+        JobSummaryDTO first = createSummary(9L);
+        JobSummaryDTO second = createSummary(8L);
+        JobSummaryDTO extra = createSummary(7L);
+        when(jobSearchEngine.searchAfter(any(JobSearchCriteria.class), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        CursorPage<JobSummaryDTO> result = jobService.searchJobs(new JobSearchCriteria(), "", 2);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(JobCursor.of(second), JobCursor.decode(result.getNext()));
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void searchJobs_lastCursorPageHasNoNextToken() {
+        when(jobSearchEngine.searchAfter(any(JobSearchCriteria.class), any(JobCursor.class), eq(3)))
+                .thenReturn(List.of(createSummary(1L)));
+        String cursor = JobCursor.of(createJob(2L)).encode();
+
+        CursorPage<JobSummaryDTO> result = jobService.searchJobs(new JobSearchCriteria(), cursor, 2);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNext());
     }
 
     @Test
     void updateJob_overwritesMutableFields() {
         Job existing = createJob(5L);
+        String oldCompany = existing.getCompany();
         when(jobRepository.findById(5L)).thenReturn(Optional.of(existing));
         when(jobRepository.save(existing)).thenReturn(existing);
 
@@ -107,6 +206,12 @@ class JobServiceImplTest {
         assertEquals("Updated Title", result.getJobTitle());
         assertEquals("New Company", result.getCompany());
         verify(jobRepository).save(existing);
+        verify(jobSearchEngine).index(existing);
+        verify(latestJobsFeed).put(argThat(summary -> "Updated Title".equals(summary.getJobTitle())));
+        // Both the old and the new company entries have to be invalidated
+        verify(jobCacheInvalidator).jobUpdated(
+                argThat(before -> oldCompany.equals(before.company())),
+                argThat(after -> "New Company".equals(after.company())));
     }
 
     @Test
@@ -117,6 +222,35 @@ class JobServiceImplTest {
         jobService.deleteJob(7L);
 
         verify(jobRepository).delete(job);
+        verify(jobSearchEngine).remove(7L);
+        verify(latestJobsFeed).remove(7L);
+        verify(jobCacheInvalidator).jobDeleted(JobCacheInvalidator.JobKeys.of(job));
+    }
+
+    @Test
+    void deleteJob_updatesIndexAndFeedOnlyAfterCommit() {
+        Job job = createJob(7L);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            jobService.deleteJob(7L);
+
+            verify(jobSearchEngine, never()).remove(anyLong());
+            verify(latestJobsFeed, never()).remove(anyLong());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(jobSearchEngine).remove(7L);
+            verify(latestJobsFeed).remove(7L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private JobSummaryDTO createSummary(Long id) {
+        Job job = createJob(id);
+        return new JobSummaryDTO(id, job.getJobTitle(), job.getCompany(), job.getLocation(), job.getJobType(),
+                job.getExperience(), job.getExperienceRequired(), job.getSalary(), job.getSalaryMin(),
+                job.getSalaryMax(), job.getCurrency(), job.getCompanyLogo(), job.getPostedAt());
     }
 
     private Job createJob(Long id) {
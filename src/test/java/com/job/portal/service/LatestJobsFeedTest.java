@@ -0,0 +1,106 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.pagination.JobCursor;
+import com.job.portal.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LatestJobsFeedTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Test
+    void latest_answersFromMemoryUntilPageRunsPastCapacity() {
+        LatestJobsFeed feed = loadedFeed(3, 5L, 4L, 3L);
+
+        assertEquals(List.of(5L, 4L), ids(feed.latest(null, 2).orElseThrow()));
+        assertEquals(List.of(3L), ids(feed.latest(JobCursor.of(summary(4L)), 1).orElseThrow()));
+        // Older jobs than the feed holds may exist in the table
+        assertTrue(feed.latest(null, 4).isEmpty());
+        verify(jobRepository, times(1)).findAllSummaries(any(Pageable.class));
+    }
+
+    @Test
+    void latest_completeFeedAnswersShortPages() {
+        LatestJobsFeed feed = loadedFeed(10, 2L, 1L);
+
+        assertEquals(List.of(2L, 1L), ids(feed.latest(null, 20).orElseThrow()));
+    }
+
+    @Test
+    void latest_repeatedFirstPageIsSameInstanceUntilFeedChanges() {
+        LatestJobsFeed feed = loadedFeed(3, 5L, 4L, 3L);
+        List<JobSummaryDTO> first = feed.latest(null, 2).orElseThrow();
+
+        assertSame(first, feed.latest(null, 2).orElseThrow());
+        feed.put(summary(6L));
+        assertEquals(List.of(6L, 5L), ids(feed.latest(null, 2).orElseThrow()));
+    }
+
+    @Test
+    void putAll_insertsNewestAndTrimsToCapacity() {
+        LatestJobsFeed feed = loadedFeed(3, 5L, 4L, 3L);
+
+        feed.put(summary(6L));
+
+        assertEquals(List.of(6L, 5L, 4L), ids(feed.latest(null, 3).orElseThrow()));
+    }
+
+    @Test
+    void putAll_dropsJobsBackdatedPastTheTailOfATruncatedFeed() {
+        LatestJobsFeed feed = loadedFeed(3, 5L, 4L, 3L);
+        JobSummaryDTO backdated = summary(4L);
+        backdated.setCreatedAt(summary(1L).getCreatedAt());
+
+        feed.put(backdated);
+
+        assertEquals(List.of(5L, 3L), ids(feed.latest(null, 2).orElseThrow()));
+        // Job 2 may sit between the old tail and the backdated job; only the database knows
+        assertTrue(feed.latest(null, 3).isEmpty());
+    }
+
+    @Test
+    void remove_reloadsTruncatedFeedOnNextRead() {
+        LatestJobsFeed feed = loadedFeed(3, 5L, 4L, 3L);
+
+        feed.remove(4L);
+        feed.latest(null, 1);
+
+        verify(jobRepository, times(2)).findAllSummaries(any(Pageable.class));
+    }
+
+    private LatestJobsFeed loadedFeed(int capacity, long... ids) {
+        List<JobSummaryDTO> jobs = LongStream.of(ids).mapToObj(LatestJobsFeedTest::summary).toList();
+        when(jobRepository.findAllSummaries(any(Pageable.class))).thenReturn(new SliceImpl<>(jobs));
+        LatestJobsFeed feed = new LatestJobsFeed(jobRepository, capacity);
+        feed.reload();
+        return feed;
+    }
+
+    private static JobSummaryDTO summary(long id) {
+        JobSummaryDTO job = new JobSummaryDTO();
+        job.setId(id);
+        job.setJobTitle("Job " + id);
+        job.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusDays(id));
+        return job;
+    }
+
+    private static List<Long> ids(List<JobSummaryDTO> jobs) {
+        return jobs.stream().map(JobSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.job.portal.service;
+
+import com.job.portal.entity.QuizAttempt;
+import com.job.portal.repository.QuizAttemptRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class QuizAttemptWriterTest {
+
+    private final QuizAttemptRepository repository = mock(QuizAttemptRepository.class);
+
+    @Test
+    void queuedAttemptsAreSavedInBatches() {
+        QuizAttemptWriter writer = new QuizAttemptWriter(repository, 100, Duration.ofHours(1), 1000);
+        for (int i = 0; i < 250; i++) {
+            writer.submit(attempt());
+        }
+        assertEquals(250, writer.pending());
+
+        writer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<QuizAttempt>> batches = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(3)).saveAll(batches.capture());
+        assertEquals(List.of(100, 100, 50), batches.getAllValues().stream().map(List::size).toList());
+        assertEquals(0, writer.pending());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void fullQueueSavesOnTheCallersThread() {
+        QuizAttemptWriter writer = new QuizAttemptWriter(repository, 100, Duration.ofHours(1), 2);
+        writer.submit(attempt());
+        writer.submit(attempt());
+        writer.submit(attempt());
+
+        verify(repository, times(1)).save(any());
+        assertEquals(2, writer.pending());
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOneAndOnlyBadAttemptsAreLost() {
+        QuizAttempt bad = new QuizAttempt(null, 2L, "user@example.com", 1, 2, Map.of(1L, "x".repeat(300)),
+                LocalDateTime.now());
+        when(repository.saveAll(any())).thenThrow(new IllegalStateException("value too long"));
+        when(repository.save(argThat(attempt -> attempt.getQuizId() == 2L)))
+                .thenThrow(new IllegalStateException("value too long"));
+        QuizAttemptWriter writer = new QuizAttemptWriter(repository, 10, Duration.ofHours(1), 100);
+        for (int i = 0; i < 14; i++) {
+            writer.submit(attempt());
+        }
+        writer.submit(bad);
+
+        writer.flush();
+
+        verify(repository, times(15)).save(any());
+        assertEquals(1, writer.failedCount());
+        assertEquals(0, writer.pending());
+    }
+
+    private static QuizAttempt attempt() {
+        return new QuizAttempt(null, 1L, "user@example.com", 1, 2, Map.of(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,152 @@
+package com.job.portal.service;
+
+import com.job.portal.dto.TagDto;
+import com.job.portal.entity.Tag;
+import com.job.portal.repository.InterviewQuestionRepository;
+import com.job.portal.repository.LearningResourceRepository;
+import com.job.portal.repository.QuizRepository;
+import com.job.portal.repository.TagEntryProjection;
+import com.job.portal.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TagCatalogTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final QuizRepository quizRepository = mock(QuizRepository.class);
+    private final InterviewQuestionRepository interviewQuestionRepository = mock(InterviewQuestionRepository.class);
+    private final LearningResourceRepository learningResourceRepository = mock(LearningResourceRepository.class);
+    private final AtomicLong ids = new AtomicLong(10);
+
+    private TagCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        when(tagRepository.findAll()).thenReturn(List.of(new Tag(1L, "java", "Java")));
+        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> {
+            Tag tag = invocation.getArgument(0);
+            tag.setId(ids.incrementAndGet());
+            return tag;
+        });
+        when(quizRepository.findTagEntries()).thenReturn(List.of(
+                entry(1L, "Java"), entry(1L, "Spring Boot"), entry(2L, "java ")));
+        when(interviewQuestionRepository.findTagEntries()).thenReturn(List.of(
+                entry(1L, "JAVA"), entry(2L, "spring  boot")));
+        when(learningResourceRepository.findTagEntries()).thenReturn(List.of());
+        catalog = new TagCatalog(tagRepository, quizRepository, interviewQuestionRepository,
+                learningResourceRepository, mock(PlatformTransactionManager.class));
+        catalog.reload();
+    }
+
+    @Test
+    void tagsAreNormalizedAndCountedPerContentType() {
+        List<TagDto> popular = catalog.popular(null, 10);
+
+        assertEquals(List.of("java", "spring boot"), popular.stream().map(TagDto::getName).toList());
+        TagDto java = popular.get(0);
+        assertEquals(1L, java.getId());
+        assertEquals(2, java.getCounts().get(Tag.ContentType.QUIZ));
+        assertEquals(1, java.getCounts().get(Tag.ContentType.INTERVIEW_QUESTION));
+        assertEquals(3, java.getTotal());
+        // Only the one tag that was not in the table yet is inserted
+        verify(tagRepository, times(1)).save(any(Tag.class));
+    }
+
+    @Test
+    void suggestionsMatchAnyWordPrefix() {
+        assertEquals(List.of("spring boot"), names(catalog.suggest("bo", 10)));
+        assertEquals(List.of("spring boot"), names(catalog.suggest("Spring B", 10)));
+        assertEquals(List.of("java"), names(catalog.suggest("j", 10)));
+        assertTrue(catalog.suggest("kotlin", 10).isEmpty());
+    }
+
+    @Test
+    void writesAdjustCountsIncrementally() {
+        catalog.put(Tag.ContentType.QUIZ, 2L, List.of("Kotlin", "Spring Boot"));
+        catalog.put(Tag.ContentType.LEARNING_RESOURCE, 7L, List.of("kotlin"));
+        catalog.remove(Tag.ContentType.INTERVIEW_QUESTION, 1L);
+
+        TagDto java = catalog.popular(Tag.ContentType.QUIZ, 10).stream()
+                .filter(tag -> tag.getName().equals("java")).findFirst().orElseThrow();
+        assertEquals(1, java.getTotal());
+        assertEquals(List.of("kotlin"), names(catalog.popular(Tag.ContentType.LEARNING_RESOURCE, 10)));
+        assertEquals(2, catalog.suggest("kot", 10).get(0).getTotal());
+        assertEquals(3, catalog.suggest("boot", 10).get(0).getTotal());
+
+        catalog.put(Tag.ContentType.QUIZ, 2L, List.of());
+        catalog.remove(Tag.ContentType.LEARNING_RESOURCE, 7L);
+        assertTrue(catalog.suggest("kot", 10).isEmpty());
+    }
+
+    @Test
+    void writesApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalog.put(Tag.ContentType.QUIZ, 3L, List.of("Kotlin"));
+
+            assertTrue(catalog.suggest("kot", 10).isEmpty());
+            verify(tagRepository, times(1)).save(any(Tag.class));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(List.of("kotlin"), names(catalog.suggest("kot", 10)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tagsThatCannotBeInsertedAreSkipped() {
+        String tooLong = "x".repeat(300);
+        doThrow(new DataIntegrityViolationException("value too long"))
+                .when(tagRepository).save(argThat(tag -> tag != null && tag.getName().equals(tooLong)));
+        when(tagRepository.findByName(tooLong)).thenReturn(Optional.empty());
+        when(learningResourceRepository.findTagEntries()).thenReturn(List.of(entry(9L, tooLong)));
+
+        assertDoesNotThrow(catalog::reload);
+        assertDoesNotThrow(() -> catalog.put(Tag.ContentType.QUIZ, 4L, List.of(tooLong, "Kotlin")));
+
+        assertTrue(catalog.suggest("xxx", 10).isEmpty());
+        assertEquals(List.of("kotlin"), names(catalog.suggest("kot", 10)));
+    }
+
+    @Test
+    void readsBeforeTheFirstLoadAreEmptyAndDoNotLoad() {
+        TagCatalog unloaded = new TagCatalog(tagRepository, quizRepository, interviewQuestionRepository,
+                learningResourceRepository, mock(PlatformTransactionManager.class));
+        clearInvocations(tagRepository, quizRepository);
+
+        assertTrue(unloaded.suggest("java", 10).isEmpty());
+        assertTrue(unloaded.popular(null, 10).isEmpty());
+        verifyNoInteractions(tagRepository, quizRepository);
+    }
+
+    private static List<String> names(List<TagDto> tags) {
+        return tags.stream().map(TagDto::getName).toList();
+    }
+
+    private static TagEntryProjection entry(Long id, String tag) {
+        return new TagEntryProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTag() {
+                return tag;
+            }
+        };
+    }
+}
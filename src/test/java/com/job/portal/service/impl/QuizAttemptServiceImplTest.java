@@ -0,0 +1,108 @@
+package com.job.portal.service.impl;
+
+import com.job.portal.dto.QuizAttemptResultDto;
+import com.job.portal.dto.QuizDto;
+import com.job.portal.dto.QuizPaperDto;
+import com.job.portal.dto.QuizQuestionDto;
+import com.job.portal.dto.QuizSubmissionDto;
+import com.job.portal.entity.QuizAttempt;
+import com.job.portal.mapper.QuizMapper;
+import com.job.portal.service.PreparedQuiz;
+import com.job.portal.service.QuizAttemptWriter;
+import com.job.portal.service.QuizService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizAttemptServiceImplTest {
+
+    @Mock
+    private QuizService quizService;
+
+    @Mock
+    private QuizAttemptWriter attemptWriter;
+
+    @InjectMocks
+    private QuizAttemptServiceImpl attemptService;
+
+    @BeforeEach
+    void setUp() {
+        QuizDto quiz = new QuizDto();
+        quiz.setId(1L);
+        quiz.setTitle("Java basics");
+        quiz.setQuestions(List.of(
+                question(10L, "Which keyword declares a constant?", List.of("var", "final", "static"), "final"),
+                question(11L, "Default value of an int field?", List.of("zero", "null", "one"), "0"),
+                question(12L, "Is String mutable?", List.of("Yes", "No"), "No")));
+        when(quizService.getPreparedQuiz(1L)).thenReturn(PreparedQuiz.of(quiz, new QuizMapper().toPaper(quiz)));
+    }
+
+    @Test
+    void paperHasNoAnswers() {
+        QuizPaperDto paper = attemptService.getPaper(1L);
+
+        assertEquals(List.of(10L, 11L, 12L), paper.getQuestions().stream().map(q -> q.getId()).toList());
+        assertEquals(List.of("var", "final", "static"), paper.getQuestions().get(0).getOptions());
+    }
+
+    @Test
+    void submissionIsScoredByOptionTextOrIndex() {
+        QuizSubmissionDto submission = new QuizSubmissionDto();
+        // Option text in any case, the option index, and an id that is not in the quiz
+        submission.setAnswers(Map.of(10L, " FINAL ", 11L, "0", 99L, "final"));
+
+        QuizAttemptResultDto result = attemptService.submit(1L, "user@example.com", submission);
+
+        assertEquals(3, result.getTotalQuestions());
+        assertEquals(2, result.getScore());
+        assertEquals(List.of(true, true, false), result.getQuestions().stream().map(q -> q.isCorrect()).toList());
+        assertEquals("No", result.getQuestions().get(2).getCorrectAnswer());
+
+        ArgumentCaptor<QuizAttempt> attempt = ArgumentCaptor.forClass(QuizAttempt.class);
+        verify(attemptWriter).submit(attempt.capture());
+        assertEquals(2, attempt.getValue().getScore());
+        assertEquals(Map.of(10L, " FINAL ", 11L, "0"), attempt.getValue().getAnswers());
+    }
+
+    @Test
+    void indexOrTextIsAcceptedOnlyWhenItNamesOneOption() {
+        QuizDto quiz = new QuizDto();
+        quiz.setId(1L);
+        quiz.setQuestions(List.of(
+                question(10L, "Which keyword declares a constant?", List.of("var", "final", "static"), "final"),
+                question(11L, "Default value of an int field?", List.of("zero", "null", "one"), "0"),
+                question(20L, "Threads in the pool?", List.of("10", "20", "1"), "20"),
+                question(21L, "Retries?", List.of("10", "20", "1"), "20"),
+                question(22L, "Shards?", List.of("10", "20", "1"), "1")));
+        when(quizService.getPreparedQuiz(1L)).thenReturn(PreparedQuiz.of(quiz, new QuizMapper().toPaper(quiz)));
+        QuizSubmissionDto submission = new QuizSubmissionDto();
+        // Index for a text key, text for an index key, numeric text that is no index; "1" is both
+        // the text of option 2 and the index of option 1, so it counts for neither
+        submission.setAnswers(Map.of(10L, "1", 11L, "Zero", 20L, "20", 21L, "1", 22L, "1"));
+
+        QuizAttemptResultDto result = attemptService.submit(1L, "user@example.com", submission);
+
+        assertEquals(List.of(true, true, true, false, false),
+                result.getQuestions().stream().map(q -> q.isCorrect()).toList());
+    }
+
+    private static QuizQuestionDto question(Long id, String text, List<String> options, String correctAnswer) {
+        QuizQuestionDto question = new QuizQuestionDto();
+        question.setId(id);
+        question.setQuestion(text);
+        question.setOptions(options);
+        question.setCorrectAnswer(correctAnswer);
+        return question;
+    }
+}
@@ -0,0 +1,105 @@
+package com.job.portal.service.impl;
+
+import com.job.portal.cache.ContentCacheInvalidator;
+import com.job.portal.dto.QuizDto;
+import com.job.portal.entity.Quiz;
+import com.job.portal.entity.QuizQuestion;
+import com.job.portal.mapper.QuizMapper;
+import com.job.portal.repository.QuizRepository;
+import com.job.portal.service.TagCatalog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Quiz pages are mapped with all their questions, options and tags; this pins how many
+ * statements that takes so an N+1 regression fails the build.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({QuizServiceImpl.class, QuizMapper.class, TagCatalog.class, ContentCacheInvalidator.class})
+class QuizServiceImplQueryCountTest {
+
+    private static final int QUIZZES = 20;
+
+    @Autowired
+    private QuizServiceImpl quizService;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 0; i < QUIZZES; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setTitle("Quiz " + i);
+            quiz.setTags(new ArrayList<>(List.of("java", "tag-" + i)));
+            quiz.setJobId(i % 2 == 0 ? 1L : 2L);
+            for (int q = 0; q < 3; q++) {
+                QuizQuestion question = new QuizQuestion();
+                question.setQuestion("Question " + q);
+                question.setOptions(new ArrayList<>(List.of("A", "B", "C", "D")));
+                question.setCorrectAnswer("A");
+                question.setDifficulty(QuizQuestion.Difficulty.EASY);
+                quiz.addQuestion(question);
+            }
+            quizzes.add(quiz);
+        }
+        quizRepository.saveAll(quizzes);
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAll_loadsPageGraphInFixedStatements() {
+        Page<QuizDto> page = quizService.getAll(PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(10, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(quiz -> quiz.getQuestions().size() == 3
+                && quiz.getTags().size() == 2
+                && quiz.getQuestions().get(0).getOptions().size() == 4));
+        // Page, count, then one batch each for tags, questions and options
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void byJobAndByTag_doNotGrowWithPageSize() {
+        quizService.getByJobId(1L, PageRequest.of(0, 20));
+        long byJob = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        quizService.searchByTag("java", PageRequest.of(0, 20));
+        long byTag = statistics.getPrepareStatementCount();
+
+        assertEquals(4, byJob);
+        assertEquals(5, byTag);
+    }
+}
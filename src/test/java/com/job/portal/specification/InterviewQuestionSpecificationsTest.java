@@ -0,0 +1,65 @@
+package com.job.portal.specification;
+
+import com.job.portal.entity.InterviewQuestion;
+import com.job.portal.entity.InterviewQuestion.Difficulty;
+import com.job.portal.repository.InterviewQuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+class InterviewQuestionSpecificationsTest {
+
+    @Autowired
+    private InterviewQuestionRepository repository;
+
+    private Long resize;
+    private Long bean;
+
+    @BeforeEach
+    void setUp() {
+        resize = save("How does HashMap resize?", "The table doubles.", Difficulty.HARD, List.of("Java", "Collections"));
+        bean = save("What is a bean?", "An object the Spring container manages.", Difficulty.EASY, List.of("Spring"));
+    }
+
+    @Test
+    void everyTermMustAppearInTheQuestionOrAnswer() {
+        assertEquals(List.of(resize), ids(List.of("hashmap", "doubles"), null, null));
+        assertEquals(List.of(bean, resize), ids(List.of("the"), null, null));
+        assertEquals(List.of(), ids(List.of("hashmap", "spring"), null, null));
+    }
+
+    @Test
+    void tagIgnoresCaseAndDifficultyMustMatch() {
+        assertEquals(List.of(resize), ids(List.of("the"), " java ", null));
+        assertEquals(List.of(bean), ids(List.of("the"), null, Difficulty.EASY));
+        assertEquals(List.of(), ids(List.of("the"), "spring", Difficulty.HARD));
+    }
+
+    private List<Long> ids(List<String> terms, String tag, Difficulty difficulty) {
+        return repository.findAll(InterviewQuestionSpecifications.containsAll(terms, tag, difficulty),
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))).stream()
+                .map(InterviewQuestion::getId)
+                .toList();
+    }
+
+    private Long save(String question, String answer, Difficulty difficulty, List<String> tags) {
+        InterviewQuestion entity = new InterviewQuestion();
+        entity.setQuestion(question);
+        entity.setAnswer(answer);
+        entity.setDifficulty(difficulty);
+        entity.setTags(tags);
+        return repository.saveAndFlush(entity).getId();
+    }
+}
@@ -0,0 +1,86 @@
+package com.job.portal.specification;
+
+import com.job.portal.dto.JobSearchCriteria;
+import com.job.portal.dto.JobSummaryDTO;
+import com.job.portal.entity.Job;
+import com.job.portal.repository.JobRepository;
+import com.job.portal.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+class JobSpecificationsTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private Long unstated;
+    private Long dollars;
+    private Long rupees;
+
+    @BeforeEach
+    void setUp() {
+        unstated = save("50000-70000");
+        dollars = save("$60k - $80k");
+        rupees = save("10-15 LPA");
+    }
+
+    @Test
+    void salaryBounds_matchOnlyJobsInTheRequestedCurrency() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(55_000L);
+        criteria.setMaxSalary(1_200_000L);
+        criteria.setCurrency("USD");
+
+        assertEquals(List.of(dollars), ids(criteria));
+
+        criteria.setCurrency("inr");
+        assertEquals(List.of(rupees), ids(criteria));
+    }
+
+    @Test
+    void salaryBoundsWithoutCurrency_matchOnlyJobsNamingNone() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(55_000L);
+
+        assertEquals(List.of(unstated), ids(criteria));
+    }
+
+    @Test
+    void salaryOnlySearch_usesTheDefaultCurrency() {
+        Long eightLpa = save("8 LPA");
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(700_000L);
+        criteria.applyDefaultCurrency("INR");
+
+        assertEquals(List.of(rupees, eightLpa), ids(criteria));
+    }
+
+    @Test
+    void noSalaryFilter_leavesEveryCurrency() {
+        assertEquals(List.of(unstated, dollars, rupees), ids(new JobSearchCriteria()));
+    }
+
+    private List<Long> ids(JobSearchCriteria criteria) {
+        return jobRepository.findSummaries(JobSpecifications.build(criteria), Sort.by("id"), 10).stream()
+                .map(JobSummaryDTO::getId)
+                .toList();
+    }
+
+    private Long save(String salary) {
+        Job job = TestDataBuilder.createTestJob();
+        job.setSalary(salary);
+        return jobRepository.saveAndFlush(job).getId();
+    }
+}
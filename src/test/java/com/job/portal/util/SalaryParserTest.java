@@ -0,0 +1,67 @@
+package com.job.portal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryParserTest {
+
+    @Test
+    void parse_plainRange() {
+        SalaryParser.SalaryRange range = SalaryParser.parse("50000-70000");
+
+        assertEquals(50_000L, range.min());
+        assertEquals(70_000L, range.max());
+        assertNull(range.currency());
+    }
+
+    @Test
+    void parse_lakhRangeAppliesUnitToBothEnds() {
+        SalaryParser.SalaryRange range = SalaryParser.parse("10-15 LPA");
+
+        assertEquals(1_000_000L, range.min());
+        assertEquals(1_500_000L, range.max());
+        assertEquals("INR", range.currency());
+    }
+
+    @Test
+    void parse_dollarThousands() {
+        SalaryParser.SalaryRange range = SalaryParser.parse("$100k - $120k");
+
+        assertEquals(100_000L, range.min());
+        assertEquals(120_000L, range.max());
+        assertEquals("USD", range.currency());
+    }
+
+    @Test
+    void parse_singleAmountWithGroupingAndMonthlyPeriod() {
+        SalaryParser.SalaryRange range = SalaryParser.parse("₹1,20,000 per month");
+
+        assertEquals(1_440_000L, range.min());
+        assertEquals(1_440_000L, range.max());
+        assertEquals("INR", range.currency());
+    }
+
+    @Test
+    void parse_dotBeforeThreeDigitsIsGrouping() {
+        SalaryParser.SalaryRange range = SalaryParser.parse("€45.000 - €55.000");
+
+        assertEquals(45_000L, range.min());
+        assertEquals(55_000L, range.max());
+        assertEquals("EUR", range.currency());
+        assertEquals(2_500_000L, SalaryParser.parse("2.5M").min());
+        assertEquals(1_250_000L, SalaryParser.parse("12.5 LPA").min());
+    }
+
+    @Test
+    void parse_numericComparisonIsNotLexicographic() {
+        // "9000" > "80000" as strings, but not as numbers
+        assertTrue(SalaryParser.parse("9000").max() < SalaryParser.parse("80000").min());
+    }
+
+    @Test
+    void parse_textWithoutAmountReturnsNull() {
+        assertNull(SalaryParser.parse("Not disclosed"));
+        assertNull(SalaryParser.parse(null));
+    }
+}